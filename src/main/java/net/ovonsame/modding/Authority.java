@@ -1,15 +1,25 @@
 package net.ovonsame.modding;
 
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
+import net.ovonsame.modding.cache.MemoryCache;
 import net.ovonsame.modding.enumeration.Platform;
 import net.ovonsame.modding.interfaces.authority.Author;
+import net.ovonsame.modding.network.NotFoundException;
 import org.jetbrains.annotations.Nullable;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.time.Instant;
-import java.util.Date;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 import static net.ovonsame.modding.enumeration.Platform.*;
 
@@ -19,6 +29,14 @@ import static net.ovonsame.modding.enumeration.Platform.*;
  * @see Author
  */
 public final class Authority {
+    private static final MemoryCache<Key, Author> CACHE = new MemoryCache<>(1024, Duration.ofHours(1));
+
+    /**
+     * @return Process-wide cache of fetched authors by their platform, requested identifier and API key
+     */
+    public static MemoryCache<?, Author> getCache() {
+        return CACHE;
+    }
 
     /**
      * With this method you can get authors registered on a platform.
@@ -32,19 +50,187 @@ public final class Authority {
      * @see Platform
      */
     public static Author getAuthor(final Platform platform, final String identifier, final @Nullable String key) throws IOException {
-        return switch (platform) {
+        final Key k = new Key(platform, identifier, key);
+        final Author cached = CACHE.get(k);
+        if (cached != null) return cached;
+
+        final Author author = switch (platform) {
             case MODRINTH -> new ModrinthWrapper(identifier, key);
             case CURSEFORGE -> new CurseforgeWrapper(identifier, key);
             case SPIGET -> new SpigetWrapper(identifier, key);
         };
+        CACHE.put(k, author);
+        return author;
+    }
+
+    /**
+     * Asynchronous version of {@link #getAuthor(Platform, String, String)}
+     * @param platform Platform to get author from
+     * @param identifier Identifier of the author
+     * @param key Optional key which is required for some platforms
+     * @param executor Executor to send the request on
+     * @return Future of the author which completes exceptionally with {@code IOException} if the author can not be fetched
+     */
+    public static CompletableFuture<Author> getAuthorAsync(final Platform platform, final String identifier, final @Nullable String key, final Executor executor) {
+        return Platform.supplyAsync(() -> getAuthor(platform, identifier, key), executor);
+    }
+
+    /**
+     * Asynchronous version of {@link #getAuthor(Platform, String, String)} which uses {@link Platform#getDefaultExecutor()}
+     * @param platform Platform to get author from
+     * @param identifier Identifier of the author
+     * @param key Optional key which is required for some platforms
+     * @return Future of the author
+     */
+    public static CompletableFuture<Author> getAuthorAsync(final Platform platform, final String identifier, final @Nullable String key) {
+        return getAuthorAsync(platform, identifier, key, Platform.getDefaultExecutor());
+    }
+
+    /**
+     * With this method you can get many authors registered on a platform at once. Modrinth authors are fetched with {@code /users} up to 100 per request,
+     * authors of other platforms are fetched concurrently
+     * @param platform Platform to get authors from
+     * @param identifiers Identifiers of the authors
+     * @param key Optional key which is required for some platforms
+     * @return Found authors by their requested identifiers in the requested order. Authors which are not found are missing
+     * @throws IOException If key is not provided or is invalid and the platform requires it, if some errors occurs while connecting with the platform
+     */
+    public static Map<String, Author> getAuthors(final Platform platform, final Collection<String> identifiers, final @Nullable String key) throws IOException {
+        final Set<String> requested = new LinkedHashSet<>(identifiers);
+        final Map<String, Author> found = new HashMap<>();
+        final List<String> missing = new ArrayList<>();
+        for (String identifier : requested) {
+            final Author cached = CACHE.get(new Key(platform, identifier, key));
+            if (cached != null) found.put(identifier, cached);
+            else missing.add(identifier);
+        }
+
+        if (platform == MODRINTH) {
+            for (int i = 0; i < missing.size(); i += 100) {
+                final JsonArray ids = new JsonArray();
+                missing.subList(i, Math.min(missing.size(), i + 100)).forEach(ids::add);
+                for (JsonElement user : MODRINTH.getResponseArray("/users?ids=" + URLEncoder.encode(ids.toString(), StandardCharsets.UTF_8), key)) {
+                    final JsonObject data = user.getAsJsonObject();
+                    final Author author = of(MODRINTH, data, key);
+                    if (missing.contains(author.getId())) found.put(author.getId(), author);
+                    final String username = data.get("username").getAsString();
+                    missing.stream().filter(username::equalsIgnoreCase).forEach(m -> found.put(m, author));
+                }
+            }
+        } else {
+            final Map<String, CompletableFuture<Author>> futures = new LinkedHashMap<>();
+            for (String identifier : missing) futures.put(identifier, getAuthorAsync(platform, identifier, key));
+            for (Map.Entry<String, CompletableFuture<Author>> e : futures.entrySet()) {
+                try {
+                    found.put(e.getKey(), Platform.join(e.getValue()));
+                } catch (NotFoundException ignored) {}
+            }
+        }
+
+        final Map<String, Author> authors = new LinkedHashMap<>();
+        for (String identifier : requested) {
+            final Author author = found.get(identifier);
+            if (author != null) authors.put(identifier, author);
+        }
+        return authors;
+    }
+
+    /**
+     * Creates the author from the data which is already fetched, for example embedded into a project, and stores it in the cache
+     * @param platform Platform of the author
+     * @param data Object of the author as it is returned by the user endpoint of the platform
+     * @param key Optional key which is required for some platforms
+     * @return The author
+     */
+    static Author of(final Platform platform, final JsonObject data, final @Nullable String key) {
+        final String id = data.get("id").getAsString();
+        final Author author = switch (platform) {
+            case MODRINTH -> new ModrinthWrapper(id, key, data);
+            case CURSEFORGE -> new CurseforgeWrapper(id, key, data);
+            case SPIGET -> new SpigetWrapper(id, key, data);
+        };
+        CACHE.put(new Key(platform, id, key), author);
+        if (platform == MODRINTH) CACHE.put(new Key(platform, data.get("username").getAsString(), key), author);
+        return author;
+    }
+
+    /**
+     * Creates the author from the data which the parent payload already contains. The author is fetched only when a missing value is requested
+     * @param platform Platform of the author
+     * @param identifier Identifier of the author
+     * @param name Name of the author or null if it is unknown
+     * @param key Optional key which is required for some platforms
+     * @return The author which is already fetched, or a lazy one
+     */
+    static Author lazy(final Platform platform, final String identifier, final @Nullable String name, final @Nullable String key) {
+        final Author cached = CACHE.get(new Key(platform, identifier, key));
+        return cached != null ? cached : new LazyAuthor(platform, identifier, name, key);
+    }
+
+    /**
+     * Authors are cached per API key, like calls in flight, so an author fetched with one key is never returned to a caller with another key
+     */
+    private record Key(Platform platform, String identifier, @Nullable String key) {}
+
+    /**
+     * Author which knows its identifier and maybe its name, and fetches everything else on the first access through {@link #getAuthor(Platform, String, String)}
+     */
+    private static final class LazyAuthor extends Wrapper implements Author {
+        private final Platform platform;
+        private final @Nullable String name;
+        private final Lazy<Author> author;
+
+        private LazyAuthor(final Platform platform, final String identifier, final @Nullable String name, final @Nullable String key) {
+            super(identifier, key);
+            this.platform = platform;
+            this.name = name;
+            this.author = new Lazy<>(() -> getAuthor(platform, identifier, key));
+        }
+
+        private Author resolve() {
+            try {
+                return author.get();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public @Nullable URL getAvatar() {
+            return resolve().getAvatar();
+        }
+
+        @Override
+        public String getId() {
+            return identifier;
+        }
+
+        @Override
+        public String getName() {
+            return name != null ? name : resolve().getName();
+        }
+
+        @Override
+        public Date getRegistered() {
+            return resolve().getRegistered();
+        }
+
+        @Override
+        public Platform getPlatform() {
+            return platform;
+        }
     }
 
     private static final class ModrinthWrapper extends Wrapper implements Author {
         private final JsonObject data;
 
         public ModrinthWrapper(final String identifier, final @Nullable String key) throws IOException {
+            this(identifier, key, MODRINTH.getResponse("/user/" + identifier, key));
+        }
+
+        private ModrinthWrapper(final String identifier, final @Nullable String key, final JsonObject data) {
             super(identifier, key);
-            data = MODRINTH.getResponse("/user/" + identifier, key);
+            this.data = data;
         }
 
         @Override
@@ -81,8 +267,12 @@ public final class Authority {
         private final JsonObject data;
 
         public CurseforgeWrapper(final String identifier, final @Nullable String key) throws IOException {
+            this(identifier, key, CURSEFORGE.getResponse("/users/" + identifier, key).get("data").getAsJsonObject());
+        }
+
+        private CurseforgeWrapper(final String identifier, final @Nullable String key, final JsonObject data) {
             super(identifier, key);
-            data = CURSEFORGE.getResponse("/users/" + identifier, key).get("data").getAsJsonObject();
+            this.data = data;
         }
 
         @Override
@@ -119,8 +309,12 @@ public final class Authority {
         private final JsonObject data;
 
         public SpigetWrapper(final String identifier, final @Nullable String key) throws IOException {
+            this(identifier, key, SPIGET.getResponse("/authors/" + identifier, key));
+        }
+
+        private SpigetWrapper(final String identifier, final @Nullable String key, final JsonObject data) {
             super(identifier, key);
-            data = SPIGET.getResponse("/authors/" + identifier, key);
+            this.data = data;
         }
 
         @Override
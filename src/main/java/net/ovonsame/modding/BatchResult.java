@@ -0,0 +1,26 @@
+package net.ovonsame.modding;
+
+import net.ovonsame.modding.interfaces.Integration;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Record class {@code BatchResult} contains integrations resolved together by {@link Modding#getIntegrations(java.util.Collection, String)}.
+ * Every requested integration is either in {@code integrations} or in {@code failures}
+ * @param integrations Resolved integrations by their lazy integrations
+ * @param failures Errors of integrations which can not be resolved
+ */
+public record BatchResult(Map<LazyIntegration, Integration> integrations, Map<LazyIntegration, IOException> failures) {
+    public BatchResult {
+        integrations = Map.copyOf(integrations);
+        failures = Map.copyOf(failures);
+    }
+
+    /**
+     * @return Whether all integrations were resolved
+     */
+    public boolean isSuccessful() {
+        return failures.isEmpty();
+    }
+}
@@ -0,0 +1,334 @@
+package net.ovonsame.modding;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import net.ovonsame.modding.enumeration.IntegrationType;
+import net.ovonsame.modding.enumeration.Platform;
+import net.ovonsame.modding.enumeration.category.*;
+import net.ovonsame.modding.interfaces.ICategory;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import static net.ovonsame.modding.enumeration.IntegrationType.*;
+import static net.ovonsame.modding.enumeration.Platform.*;
+
+/**
+ * Class {@code CategoryRegistry} maps categories as platforms give them, which are slugs on Modrinth and identifiers on CurseForge and Spiget, to {@link ICategory}.
+ * There is a table for each platform and integration type, which is seeded with the known categories and can be extended from the tag endpoints of the platforms
+ * with {@link #refresh(Platform, String)}. Tables are replaced on write, so lookups do not lock
+ * @see CategorySet
+ */
+public final class CategoryRegistry {
+    private static final int TYPES = IntegrationType.values().length;
+    private static final AtomicReferenceArray<Map<String, Integer>> TABLES = new AtomicReferenceArray<>(Platform.values().length * TYPES);
+
+    static {
+        register(MODRINTH, MOD, ModCategory.RPG, "adventure");
+        register(MODRINTH, MOD, ModCategory.MISCELLANEOUS, "game-mechanics", "minigame");
+        register(MODRINTH, MOD, ModCategory.COSMETIC, "decoration");
+        register(MODRINTH, MOD, ModCategory.EDUCATION, "economy");
+        register(MODRINTH, MOD, ModCategory.EQUIPMENT, "equipment");
+        register(MODRINTH, MOD, ModCategory.FOOD, "food");
+        register(MODRINTH, MOD, ModCategory.LIBRARY, "library");
+        register(MODRINTH, MOD, ModCategory.MAGIC, "magic");
+        register(MODRINTH, MOD, ModCategory.UTILITIES, "management", "utility");
+        register(MODRINTH, MOD, ModCategory.MOBS, "mobs");
+        register(MODRINTH, MOD, ModCategory.PERFORMANCE, "optimization");
+        register(MODRINTH, MOD, ModCategory.INFORMATION, "social");
+        register(MODRINTH, MOD, ModCategory.STORAGE, "storage");
+        register(MODRINTH, MOD, ModCategory.TECHNOLOGY, "technology");
+        register(MODRINTH, MOD, ModCategory.TRANSPORTATION, "transportation");
+        register(MODRINTH, MOD, ModCategory.WORLD_GEN, "worldgen");
+        register(MODRINTH, MOD, ModCategory.CURSED, "cursed");
+        register(MODRINTH, RESOURCEPACK, ResourcepackCategory.RES_128X, "128x");
+        register(MODRINTH, RESOURCEPACK, ResourcepackCategory.RES_256X, "256x");
+        register(MODRINTH, RESOURCEPACK, ResourcepackCategory.RES_512X, "512x+");
+        register(MODRINTH, RESOURCEPACK, ResourcepackCategory.RES_16X, "16x");
+        register(MODRINTH, RESOURCEPACK, ResourcepackCategory.RES_32X, "32x");
+        register(MODRINTH, RESOURCEPACK, ResourcepackCategory.RES_64X, "64x");
+        register(MODRINTH, RESOURCEPACK, ResourcepackCategory.RES_8X, "8x-");
+        register(MODRINTH, RESOURCEPACK, ResourcepackCategory.RES_48X, "48x");
+        register(MODRINTH, RESOURCEPACK, ResourcepackCategory.ANIMATED, "animated");
+        register(MODRINTH, RESOURCEPACK, ResourcepackCategory.TRADITIONAL, "traditional", "audio", "blocks", "combat", "core-shaders", "decoration", "entities", "environment", "equipment", "gui", "items", "locale", "models");
+        register(MODRINTH, RESOURCEPACK, ResourcepackCategory.REALISTIC, "realistic");
+        register(MODRINTH, RESOURCEPACK, ResourcepackCategory.SIMPLISTIC, "simplistic");
+        register(MODRINTH, RESOURCEPACK, ResourcepackCategory.THEMED, "themed");
+        register(MODRINTH, RESOURCEPACK, ResourcepackCategory.MISCELLANEOUS, "miscellaneous", "tweaks", "utility");
+        register(MODRINTH, RESOURCEPACK, ResourcepackCategory.FONT_PACKS, "fonts");
+        register(MODRINTH, RESOURCEPACK, ResourcepackCategory.MOD_SUPPORT, "modded");
+        register(MODRINTH, RESOURCEPACK, ResourcepackCategory.CURSED, "cursed");
+        register(MODRINTH, RESOURCEPACK, ResourcepackCategory.VANILLA, "vanilla-like");
+        register(MODRINTH, SHADER, ShaderCategory.REALISTIC, "realistic", "atmosphere");
+        register(MODRINTH, SHADER, ShaderCategory.FANTASY, "fantasy");
+        register(MODRINTH, SHADER, ShaderCategory.SHADOWS, "shadows");
+        register(MODRINTH, SHADER, ShaderCategory.PERFORMANCE, "screenshot", "potato");
+        register(MODRINTH, SHADER, ShaderCategory.VANILLA, "vanilla-like");
+        register(MODRINTH, SHADER, ShaderCategory.FEATURE, "reflections", "pbr", "path-tracing", "foliage", "colored-lighting", "bloom");
+        register(MODRINTH, SHADER, ShaderCategory.MEDIUM, "medium");
+        register(MODRINTH, SHADER, ShaderCategory.LOW, "low");
+        register(MODRINTH, SHADER, ShaderCategory.SEMI_REALISTIC, "semi_realistic");
+        register(MODRINTH, SHADER, ShaderCategory.HIGH, "high");
+        register(MODRINTH, SHADER, ShaderCategory.CURSED, "cursed", "cartoon");
+        register(MODRINTH, MODPACK, ModpackCategory.RPG, "adventure");
+        register(MODRINTH, MODPACK, ModpackCategory.HARDCORE, "challenging");
+        register(MODRINTH, MODPACK, ModpackCategory.COMBAT, "combat");
+        register(MODRINTH, MODPACK, ModCategory.MISCELLANEOUS, "kitchen-sink");
+        register(MODRINTH, MODPACK, ModpackCategory.SMALL, "lightweight");
+        register(MODRINTH, MODPACK, ModpackCategory.MAGIC, "magic");
+        register(MODRINTH, MODPACK, ModpackCategory.MULTIPLAYER, "multiplayer");
+        register(MODRINTH, MODPACK, ModpackCategory.VANILLA_PLUS, "optimization");
+        register(MODRINTH, MODPACK, ModpackCategory.QUESTS, "quests");
+        register(MODRINTH, MODPACK, ModpackCategory.TECH, "technology");
+        register(CURSEFORGE, PLUGIN, PluginCategory.WORLD_EDITING_AND_MANAGEMENT, "124");
+        register(CURSEFORGE, PLUGIN, PluginCategory.INFORMATIONAL, "128");
+        register(CURSEFORGE, PLUGIN, PluginCategory.ADMIN_TOOLS, "115");
+        register(CURSEFORGE, PLUGIN, PluginCategory.MISCELLANEOUS, "133");
+        register(CURSEFORGE, PLUGIN, PluginCategory.ROLE_PLAYING, "132");
+        register(CURSEFORGE, PLUGIN, PluginCategory.ANTI_GRIEFING_TOOLS, "116");
+        register(CURSEFORGE, PLUGIN, PluginCategory.DEVELOPER_TOOLS, "122");
+        register(CURSEFORGE, PLUGIN, PluginCategory.GENERAL, "127");
+        register(CURSEFORGE, PLUGIN, PluginCategory.FIXES, "125");
+        register(CURSEFORGE, PLUGIN, PluginCategory.MECHANICS, "129");
+        register(CURSEFORGE, PLUGIN, PluginCategory.WORLD_GENERATORS, "131");
+        register(CURSEFORGE, PLUGIN, PluginCategory.WEBSITE_ADMINISTRATION, "130");
+        register(CURSEFORGE, PLUGIN, PluginCategory.TRANSPORTATION, "134");
+        register(CURSEFORGE, PLUGIN, PluginCategory.FUN, "126");
+        register(CURSEFORGE, PLUGIN, PluginCategory.CHAT_RELATED, "117");
+        register(CURSEFORGE, PLUGIN, PluginCategory.ECONOMY, "123");
+        register(CURSEFORGE, PLUGIN, PluginCategory.TWITCH_INTEGRATION, "4672");
+        register(CURSEFORGE, MOD, ModCategory.FOOD, "436", "8836");
+        register(CURSEFORGE, MOD, ModCategory.ORES, "408");
+        register(CURSEFORGE, MOD, ModCategory.MISCELLANEOUS, "425", "4995", "4994", "8830", "4996");
+        register(CURSEFORGE, MOD, ModCategory.COSMETIC, "424", "4987", "4989", "8825");
+        register(CURSEFORGE, MOD, ModCategory.EDUCATION, "5299");
+        register(CURSEFORGE, MOD, ModCategory.PROCESSING, "413");
+        register(CURSEFORGE, MOD, ModCategory.INFORMATION, "423");
+        register(CURSEFORGE, MOD, ModCategory.FARMING, "416");
+        register(CURSEFORGE, MOD, ModCategory.TECHNOLOGY, "412", "8826");
+        register(CURSEFORGE, MOD, ModCategory.GENETICS, "418");
+        register(CURSEFORGE, MOD, ModCategory.STRUCTURES, "409");
+        register(CURSEFORGE, MOD, ModCategory.MOBS, "411", "8833", "4991");
+        register(CURSEFORGE, MOD, ModCategory.MAGIC, "419");
+        register(CURSEFORGE, MOD, ModCategory.ADDONS, "426", "427", "432", "428", "429", "4545", "433", "4485", "430", "4773", "5314", "5232", "6145", "6484", "6954", "7669", "9049");
+        register(CURSEFORGE, MOD, ModCategory.DIMENSIONS, "410");
+        register(CURSEFORGE, MOD, ModCategory.EQUIPMENT, "434", "8834");
+        register(CURSEFORGE, MOD, ModCategory.WORLD_GEN, "406", "4986", "4992");
+        register(CURSEFORGE, MOD, ModCategory.UTILITIES, "435", "4990", "8835", "8832");
+        register(CURSEFORGE, MOD, ModCategory.TRANSPORTATION, "414");
+        register(CURSEFORGE, MOD, ModCategory.ENERGY, "417");
+        register(CURSEFORGE, MOD, ModCategory.BIOMES, "407");
+        register(CURSEFORGE, MOD, ModCategory.RPG, "422", "8829", "4993", "8831", "8827", "8828");
+        register(CURSEFORGE, MOD, ModCategory.LIBRARY, "421");
+        register(CURSEFORGE, MOD, ModCategory.STORAGE, "420");
+        register(CURSEFORGE, MOD, ModCategory.REDSTONE, "4558");
+        register(CURSEFORGE, MOD, ModCategory.AUTOMATION, "4843");
+        register(CURSEFORGE, MOD, ModCategory.TWITCH_INTEGRATION, "4671");
+        register(CURSEFORGE, MOD, ModCategory.MCREATOR, "4906");
+        register(CURSEFORGE, MOD, ModCategory.PERFORMANCE, "6814", "8837");
+        register(CURSEFORGE, MOD, ModCategory.BUG_FIXES, "6821");
+        register(CURSEFORGE, MOD, ModCategory.CREATIVE, "9026");
+        register(CURSEFORGE, RESOURCEPACK, ResourcepackCategory.REALISTIC, "400", "6932", "6939");
+        register(CURSEFORGE, RESOURCEPACK, ResourcepackCategory.STEAMPUNK, "399");
+        register(CURSEFORGE, RESOURCEPACK, ResourcepackCategory.TRADITIONAL, "403");
+        register(CURSEFORGE, RESOURCEPACK, ResourcepackCategory.RES_512X, "398");
+        register(CURSEFORGE, RESOURCEPACK, ResourcepackCategory.RES_128X, "396", "6938");
+        register(CURSEFORGE, RESOURCEPACK, ResourcepackCategory.RES_256X, "397");
+        register(CURSEFORGE, RESOURCEPACK, ResourcepackCategory.MEDIEVAL, "402");
+        register(CURSEFORGE, RESOURCEPACK, ResourcepackCategory.RES_64X, "395", "6937");
+        register(CURSEFORGE, RESOURCEPACK, ResourcepackCategory.MISCELLANEOUS, "405", "6930", "6931");
+        register(CURSEFORGE, RESOURCEPACK, ResourcepackCategory.RES_32X, "394", "6936");
+        register(CURSEFORGE, RESOURCEPACK, ResourcepackCategory.RES_16X, "393", "6935");
+        register(CURSEFORGE, RESOURCEPACK, ResourcepackCategory.ANIMATED, "404");
+        register(CURSEFORGE, RESOURCEPACK, ResourcepackCategory.MODERN, "401");
+        register(CURSEFORGE, RESOURCEPACK, ResourcepackCategory.MOD_SUPPORT, "4465");
+        register(CURSEFORGE, RESOURCEPACK, ResourcepackCategory.DATA_PACKS, "5193");
+        register(CURSEFORGE, RESOURCEPACK, ResourcepackCategory.FONT_PACKS, "5244");
+        register(CURSEFORGE, RESOURCEPACK, ResourcepackCategory.SIMPLISTIC, "6933");
+        register(CURSEFORGE, RESOURCEPACK, ResourcepackCategory.THEMED, "6934");
+        register(CURSEFORGE, WORLD, WorldCategory.PARKOUR, "251", "6919");
+        register(CURSEFORGE, WORLD, WorldCategory.SURVIVAL, "253", "6924", "6921");
+        register(CURSEFORGE, WORLD, WorldCategory.CREATION, "249", "6915", "6916");
+        register(CURSEFORGE, WORLD, WorldCategory.GAME_MAP, "250", "6923", "6922");
+        register(CURSEFORGE, WORLD, WorldCategory.ADVENTURE, "248", "6914", "6918", "6917");
+        register(CURSEFORGE, WORLD, WorldCategory.MODDED_WORLD, "4464");
+        register(CURSEFORGE, WORLD, WorldCategory.PUZZLE, "252", "6920");
+        register(CURSEFORGE, MODPACK, ModpackCategory.RPG, "4475");
+        register(CURSEFORGE, MODPACK, ModpackCategory.FTB, "4487");
+        register(CURSEFORGE, MODPACK, ModpackCategory.QUESTS, "4478");
+        register(CURSEFORGE, MODPACK, ModpackCategory.SMALL, "4481");
+        register(CURSEFORGE, MODPACK, ModpackCategory.COMBAT, "4483");
+        register(CURSEFORGE, MODPACK, ModpackCategory.TECH, "4472");
+        register(CURSEFORGE, MODPACK, ModpackCategory.SCI_FI, "4474");
+        register(CURSEFORGE, MODPACK, ModpackCategory.HARDCORE, "4479");
+        register(CURSEFORGE, MODPACK, ModpackCategory.MULTIPLAYER, "4484");
+        register(CURSEFORGE, MODPACK, ModpackCategory.MINI_GAME, "4477");
+        register(CURSEFORGE, MODPACK, ModpackCategory.EXTRA_LARGE, "4482");
+        register(CURSEFORGE, MODPACK, ModpackCategory.MAGIC, "4473");
+        register(CURSEFORGE, MODPACK, ModpackCategory.SKYBLOCK, "4736");
+        register(CURSEFORGE, MODPACK, ModpackCategory.MAP_BASED, "4480");
+        register(CURSEFORGE, MODPACK, ModpackCategory.EXPLORATION, "4476");
+        register(CURSEFORGE, MODPACK, ModpackCategory.VANILLA_PLUS, "5128");
+        register(CURSEFORGE, MODPACK, ModpackCategory.HORROR, "4471");
+        register(CURSEFORGE, CUSTOMIZATION, CustomizationCategory.HARDCORE_QUESTING_MODE, "4551");
+        register(CURSEFORGE, CUSTOMIZATION, CustomizationCategory.GUIDEBOOK, "4549");
+        register(CURSEFORGE, CUSTOMIZATION, CustomizationCategory.RECIPES, "4554");
+        register(CURSEFORGE, CUSTOMIZATION, CustomizationCategory.PROGRESSION, "4556");
+        register(CURSEFORGE, CUSTOMIZATION, CustomizationCategory.QUESTS, "4550");
+        register(CURSEFORGE, CUSTOMIZATION, CustomizationCategory.BUILDING_GADGETS, "4752");
+        register(CURSEFORGE, CUSTOMIZATION, CustomizationCategory.LUCKY_BLOCKS, "4548");
+        register(CURSEFORGE, CUSTOMIZATION, CustomizationCategory.CONFIGURATION, "4547");
+        register(CURSEFORGE, CUSTOMIZATION, CustomizationCategory.WORLD_GEN, "4555", "6926");
+        register(CURSEFORGE, CUSTOMIZATION, CustomizationCategory.SCRIPTS, "4552");
+        register(CURSEFORGE, CUSTOMIZATION, CustomizationCategory.FANCY_MENU, "5186");
+        register(CURSEFORGE, CUSTOMIZATION, CustomizationCategory.SKINS, "6928", "6927");
+        register(CURSEFORGE, ADDON, AddonCategory.RESOURCE_PACKS, "4561");
+        register(CURSEFORGE, ADDON, AddonCategory.SCENARIOS, "4562");
+        register(CURSEFORGE, ADDON, AddonCategory.WORLDS, "4560");
+        register(CURSEFORGE, DATAPACK, DatapackCategory.MAGIC, "6952");
+        register(CURSEFORGE, DATAPACK, DatapackCategory.MISCELLANEOUS, "6945", "6941");
+        register(CURSEFORGE, DATAPACK, DatapackCategory.FANTASY, "6554");
+        register(CURSEFORGE, DATAPACK, DatapackCategory.MOD_SUPPORT, "4465");
+        register(CURSEFORGE, DATAPACK, DatapackCategory.TECH, "412");
+        register(CURSEFORGE, DATAPACK, DatapackCategory.LIBRARY, "421");
+        register(CURSEFORGE, DATAPACK, DatapackCategory.UTILITY, "5191", "8824");
+        register(CURSEFORGE, DATAPACK, DatapackCategory.ADVENTURE, "422");
+        register(CURSEFORGE, SHADER, ShaderCategory.VANILLA, "6555");
+        register(CURSEFORGE, SHADER, ShaderCategory.FANTASY, "6554");
+        register(CURSEFORGE, SHADER, ShaderCategory.REALISTIC, "6553");
+        register(SPIGET, PLUGIN, PluginCategory.GENERAL, "21", "19", "28", "2", "3", "4", "20");
+        register(SPIGET, PLUGIN, PluginCategory.DEVELOPER_TOOLS, "9", "26", "25", "15", "12", "7");
+        register(SPIGET, PLUGIN, PluginCategory.CHAT_RELATED, "6", "11", "14");
+        register(SPIGET, PLUGIN, PluginCategory.MISCELLANEOUS, "16", "13", "8");
+        register(SPIGET, PLUGIN, PluginCategory.TRANSPORTATION, "5", "10");
+        register(SPIGET, PLUGIN, PluginCategory.WORLD_EDITING_AND_MANAGEMENT, "18");
+        register(SPIGET, PLUGIN, PluginCategory.WEBSITE_ADMINISTRATION, "27");
+        register(SPIGET, PLUGIN, PluginCategory.WORLD_GENERATORS, "29");
+        register(SPIGET, PLUGIN, PluginCategory.ROLE_PLAYING, "24");
+        register(SPIGET, PLUGIN, PluginCategory.MECHANICS, "22");
+        register(SPIGET, PLUGIN, PluginCategory.ECONOMY, "23");
+        register(SPIGET, PLUGIN, PluginCategory.FUN, "17");
+    }
+
+    private CategoryRegistry() {}
+
+    /**
+     * @param platform Platform of the category
+     * @param type Type of the integration, which is always {@link IntegrationType#PLUGIN} on Spiget
+     * @param raw Slug or identifier of the category as the platform gives it
+     * @return The category or null if it is unknown
+     */
+    public static @Nullable ICategory get(final Platform platform, final IntegrationType type, final String raw) {
+        final Integer index = table(platform, type).get(raw);
+        return index != null ? CategorySet.get(index) : null;
+    }
+
+    /**
+     * @param platform Platform of the categories
+     * @param type Type of the integration, which is always {@link IntegrationType#PLUGIN} on Spiget
+     * @param raws Slugs or identifiers of the categories as the platform gives them
+     * @return Set of the known categories
+     */
+    public static CategorySet decode(final Platform platform, final IntegrationType type, final Iterable<String> raws) {
+        final Map<String, Integer> table = table(platform, type);
+        final long[] bits = new long[CategorySet.words()];
+        for (String raw : raws) {
+            final Integer index = table.get(raw);
+            if (index != null) CategorySet.set(bits, index);
+        }
+        return CategorySet.wrap(bits);
+    }
+
+    /**
+     * Maps slugs or identifiers to a category, replacing their previous mappings
+     * @param platform Platform of the category
+     * @param type Type of the integration
+     * @param category The category
+     * @param raws Slugs or identifiers of the category as the platform gives them
+     * @throws IllegalArgumentException If the category is not a constant of {@link ICategory} or of a category enumeration
+     */
+    public static synchronized void register(final Platform platform, final IntegrationType type, final ICategory category, final String... raws) {
+        final int index = CategorySet.indexOf(category);
+        final Map<String, Integer> table = new HashMap<>(table(platform, type));
+        for (String raw : raws) table.put(raw, index);
+        TABLES.set(slot(platform, type), table);
+    }
+
+    /**
+     * Fetches categories of a platform and adds the ones which are not known yet and have the name of a category of their integration type.
+     * Known mappings are never replaced. Uses Modrinth {@code /tag/category}, CurseForge {@code /categories} and Spiget {@code /categories}
+     * @param platform Platform to fetch categories from
+     * @param key Optional key which is required for some platforms
+     * @return Number of added mappings
+     * @throws IOException If key is not provided or is invalid and the platform requires it, if some errors occurs while connecting with the platform
+     */
+    public static int refresh(final Platform platform, final @Nullable String key) throws IOException {
+        int added = 0;
+        switch (platform) {
+            case MODRINTH -> {
+                for (JsonElement e : MODRINTH.getResponseArray("/tag/category", key)) {
+                    final JsonObject c = e.getAsJsonObject();
+                    final IntegrationType type = type(c.get("project_type").getAsString());
+                    final String name = c.get("name").getAsString();
+                    if (type != null && learn(MODRINTH, type, name, name)) added++;
+                }
+            }
+            case CURSEFORGE -> {
+                final JsonArray data = CURSEFORGE.getResponse("/categories?gameId=432", key).get("data").getAsJsonArray();
+                for (JsonElement e : data) {
+                    final JsonObject c = e.getAsJsonObject();
+                    if (c.has("isClass") && c.get("isClass").getAsBoolean() || !c.has("classId")) continue;
+                    final IntegrationType type = Modding.classType(c.get("classId").getAsInt());
+                    if (learn(CURSEFORGE, type, c.get("id").getAsString(), c.get("name").getAsString())) added++;
+                }
+            }
+            case SPIGET -> {
+                for (JsonElement e : SPIGET.getResponseArray("/categories?size=100", key)) {
+                    final JsonObject c = e.getAsJsonObject();
+                    if (learn(SPIGET, PLUGIN, c.get("id").getAsString(), c.get("name").getAsString())) added++;
+                }
+            }
+        }
+        return added;
+    }
+
+    /**
+     * Maps an unknown raw category to the category of the type with the same name, like {@code "World Gen"} to {@code WORLD_GEN}
+     */
+    private static synchronized boolean learn(final Platform platform, final IntegrationType type, final String raw, final String name) {
+        if (table(platform, type).containsKey(raw)) return false;
+        final String normalized = name.toUpperCase(Locale.ROOT).replaceAll("[^A-Z0-9]+", "_").replaceAll("^_|_$", "");
+        if (normalized.equals("CURSED")) {
+            register(platform, type, ICategory.CURSED, raw);
+            return true;
+        }
+        for (ICategory c : type.getCategories()) {
+            if (c instanceof Enum<?> e && e.name().equals(normalized)) {
+                register(platform, type, c, raw);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static @Nullable IntegrationType type(final String name) {
+        for (IntegrationType t : IntegrationType.values()) {
+            if (t.name().equalsIgnoreCase(name)) return t;
+        }
+        return null;
+    }
+
+    private static Map<String, Integer> table(final Platform platform, final IntegrationType type) {
+        final Map<String, Integer> table = TABLES.get(slot(platform, type));
+        return table != null ? table : Map.of();
+    }
+
+    private static int slot(final Platform platform, final IntegrationType type) {
+        return platform.ordinal() * TYPES + type.ordinal();
+    }
+}
@@ -0,0 +1,192 @@
+package net.ovonsame.modding;
+
+import net.ovonsame.modding.enumeration.IntegrationType;
+import net.ovonsame.modding.interfaces.ICategory;
+
+import java.util.*;
+
+/**
+ * Class {@code CategorySet} is an unmodifiable set of categories kept as a bit vector, like {@link EnumSet} but over the categories of all integration types.
+ * Each known category has a fixed position, so membership, intersection and equality are word operations instead of hashing
+ * @see CategoryRegistry
+ */
+public final class CategorySet extends AbstractSet<ICategory> {
+    private static final ICategory[] UNIVERSE;
+    private static final Map<ICategory, Integer> INDEX = new IdentityHashMap<>();
+    private static final CategorySet EMPTY;
+
+    static {
+        final List<ICategory> all = new ArrayList<>();
+        all.add(ICategory.CURSED);
+        INDEX.put(ICategory.CURSED, 0);
+        for (IntegrationType type : IntegrationType.values()) {
+            for (ICategory c : type.getCategories()) {
+                if (!INDEX.containsKey(c)) {
+                    INDEX.put(c, all.size());
+                    all.add(c);
+                }
+            }
+        }
+        UNIVERSE = all.toArray(new ICategory[0]);
+        EMPTY = new CategorySet(new long[words()]);
+    }
+
+    private final long[] bits;
+    private final int size;
+
+    private CategorySet(final long[] bits) {
+        this.bits = bits;
+        int size = 0;
+        for (long w : bits) size += Long.bitCount(w);
+        this.size = size;
+    }
+
+    /**
+     * @return Empty set
+     */
+    public static CategorySet of() {
+        return EMPTY;
+    }
+
+    /**
+     * @param categories Categories of the set
+     * @return Set of the categories
+     * @throws IllegalArgumentException If a category is not a constant of {@link ICategory} or of a category enumeration
+     */
+    public static CategorySet of(final ICategory... categories) {
+        return copyOf(Arrays.asList(categories));
+    }
+
+    /**
+     * @param categories Categories of the set
+     * @return Set of the categories
+     * @throws IllegalArgumentException If a category is not a constant of {@link ICategory} or of a category enumeration
+     */
+    public static CategorySet copyOf(final Collection<? extends ICategory> categories) {
+        if (categories instanceof CategorySet s) return s;
+        final long[] bits = new long[words()];
+        for (ICategory c : categories) set(bits, indexOf(c));
+        return new CategorySet(bits);
+    }
+
+    /**
+     * @param category Category
+     * @return Fixed position of the category
+     * @throws IllegalArgumentException If the category is not a constant of {@link ICategory} or of a category enumeration
+     */
+    static int indexOf(final ICategory category) {
+        final Integer index = INDEX.get(category);
+        if (index == null) throw new IllegalArgumentException("Unknown category: " + category);
+        return index;
+    }
+
+    static ICategory get(final int index) {
+        return UNIVERSE[index];
+    }
+
+    static int words() {
+        return (UNIVERSE.length + 63) >>> 6;
+    }
+
+    static void set(final long[] bits, final int index) {
+        bits[index >>> 6] |= 1L << index;
+    }
+
+    /**
+     * @param bits Bit vector which must not be modified after
+     * @return Set of the categories at the positions of the set bits
+     */
+    static CategorySet wrap(final long[] bits) {
+        return new CategorySet(bits);
+    }
+
+    /**
+     * @param other Other set
+     * @return True if the sets have a category in common
+     */
+    public boolean intersects(final CategorySet other) {
+        for (int i = 0; i < bits.length; i++) {
+            if ((bits[i] & other.bits[i]) != 0) return true;
+        }
+        return false;
+    }
+
+    /**
+     * @param other Other set
+     * @return Set of the categories of both sets
+     */
+    public CategorySet union(final CategorySet other) {
+        final long[] result = new long[bits.length];
+        for (int i = 0; i < bits.length; i++) result[i] = bits[i] | other.bits[i];
+        return new CategorySet(result);
+    }
+
+    /**
+     * @param other Other set
+     * @return Set of the categories which are in both sets
+     */
+    public CategorySet intersection(final CategorySet other) {
+        final long[] result = new long[bits.length];
+        for (int i = 0; i < bits.length; i++) result[i] = bits[i] & other.bits[i];
+        return new CategorySet(result);
+    }
+
+    @Override
+    public boolean contains(final Object o) {
+        if (!(o instanceof ICategory c)) return false;
+        final Integer index = INDEX.get(c);
+        return index != null && (bits[index >>> 6] & (1L << index)) != 0;
+    }
+
+    @Override
+    public boolean containsAll(final Collection<?> c) {
+        if (!(c instanceof CategorySet other)) return super.containsAll(c);
+        for (int i = 0; i < bits.length; i++) {
+            if ((other.bits[i] & ~bits[i]) != 0) return false;
+        }
+        return true;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Iterator<ICategory> iterator() {
+        return new Iterator<>() {
+            private int next = next(0);
+
+            private int next(final int from) {
+                for (int i = from; i < UNIVERSE.length; i++) {
+                    if ((bits[i >>> 6] & (1L << i)) != 0) return i;
+                }
+                return -1;
+            }
+
+            @Override
+            public boolean hasNext() {
+                return next >= 0;
+            }
+
+            @Override
+            public ICategory next() {
+                if (next < 0) throw new NoSuchElementException();
+                final ICategory c = UNIVERSE[next];
+                next = next(next + 1);
+                return c;
+            }
+        };
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (o instanceof CategorySet other) return Arrays.equals(bits, other.bits);
+        return super.equals(o);
+    }
+
+    @Override
+    public int hashCode() {
+        return super.hashCode();
+    }
+}
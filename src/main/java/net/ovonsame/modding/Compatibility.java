@@ -0,0 +1,168 @@
+package net.ovonsame.modding;
+
+import net.ovonsame.modding.interfaces.ILoader;
+import net.ovonsame.modding.interfaces.IntegrationFile;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Unmodifiable;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Class {@code Compatibility} is the set of versions a file supports, which is every given game version with every loader.
+ * Game versions and loaders are kept as bit vectors over positions which are assigned once for the whole process, game versions by {@link GameVersionCatalog},
+ * so testing a version or whether two files share one does not create {@link Version}s and takes a few word operations
+ * @see IntegrationFile#getCompatibility()
+ */
+public final class Compatibility {
+    private static final Map<ILoader, Integer> LOADERS = new ConcurrentHashMap<>();
+    private static final AtomicInteger NEXT_LOADER = new AtomicInteger();
+
+    private final String[] versions;
+    private final ILoader[] loaders;
+    private final long[] versionBits;
+    private final long[] loaderBits;
+
+    private Compatibility(final String[] versions, final ILoader[] loaders) {
+        this.versions = versions;
+        this.loaders = loaders;
+        long[] v = new long[0];
+        for (String version : versions) v = set(v, GameVersionCatalog.of(version).ordinal());
+        long[] l = new long[0];
+        for (ILoader loader : loaders) l = set(l, LOADERS.computeIfAbsent(loader, k -> NEXT_LOADER.getAndIncrement()));
+        this.versionBits = v;
+        this.loaderBits = l;
+    }
+
+    /**
+     * @param versions Game versions
+     * @param loaders Loaders
+     * @return Compatibility with every game version with every loader
+     */
+    public static Compatibility of(final String[] versions, final ILoader... loaders) {
+        return new Compatibility(versions.clone(), loaders.clone());
+    }
+
+    /**
+     * @param version Version
+     * @return Compatibility with the version only
+     */
+    public static Compatibility of(final Version version) {
+        return new Compatibility(new String[]{version.version()}, new ILoader[]{version.loader()});
+    }
+
+    /**
+     * Loaders of the file are its given loaders. If it is given only {@link ILoader#ANY}, they are also its possible loaders
+     * @param file File
+     * @return Compatibility of the file
+     * @see IntegrationFile#getPossibleLoaders()
+     */
+    public static Compatibility of(final IntegrationFile file) {
+        final List<ILoader> loaders = new ArrayList<>(Arrays.asList(file.getLoaders()));
+        if (loaders.contains(ILoader.ANY) && loaders.size() <= 1) loaders.addAll(file.getPossibleLoaders());
+        return new Compatibility(file.getVersions(), loaders.toArray(new ILoader[0]));
+    }
+
+    private static long[] set(long[] bits, final int index) {
+        if (index >>> 6 >= bits.length) bits = Arrays.copyOf(bits, (index >>> 6) + 1);
+        bits[index >>> 6] |= 1L << index;
+        return bits;
+    }
+
+    private static boolean intersects(final long[] a, final long[] b) {
+        for (int i = Math.min(a.length, b.length) - 1; i >= 0; i--) {
+            if ((a[i] & b[i]) != 0) return true;
+        }
+        return false;
+    }
+
+    private static boolean contains(final long[] bits, final int index) {
+        return index >>> 6 < bits.length && (bits[index >>> 6] & (1L << index)) != 0;
+    }
+
+    /**
+     * @param other Other compatibility
+     * @return Whether both support at least one same version
+     */
+    public boolean intersects(final Compatibility other) {
+        return intersects(versionBits, other.versionBits) && intersects(loaderBits, other.loaderBits);
+    }
+
+    /**
+     * @param version Version
+     * @return Whether the version is supported
+     */
+    public boolean supports(final Version version) {
+        return supports(version.version()) && supports(version.loader());
+    }
+
+    /**
+     * @param version Game version
+     * @return Whether the game version is supported with any loader
+     */
+    public boolean supports(final String version) {
+        return contains(versionBits, GameVersionCatalog.of(version).ordinal());
+    }
+
+    /**
+     * @param loader Loader
+     * @return Whether the loader is supported with any game version
+     */
+    public boolean supports(final ILoader loader) {
+        final Integer index = LOADERS.get(loader);
+        return index != null && contains(loaderBits, index);
+    }
+
+    /**
+     * @return Whether no version is supported
+     */
+    public boolean isEmpty() {
+        return versions.length == 0 || loaders.length == 0;
+    }
+
+    String[] gameVersions() {
+        return versions;
+    }
+
+    ILoader[] loaders() {
+        return loaders;
+    }
+
+    /**
+     * @return Unmodifiable view of the supported versions ordered by loader and then by game version, which creates them while it is iterated
+     */
+    public @Unmodifiable Collection<Version> getVersions() {
+        return new AbstractCollection<>() {
+            @Override
+            public boolean contains(final Object o) {
+                return o instanceof Version v && supports(v);
+            }
+
+            @Override
+            public int size() {
+                return loaders.length * versions.length;
+            }
+
+            @Override
+            public @NotNull Iterator<Version> iterator() {
+                return new Iterator<>() {
+                    private int next;
+
+                    @Override
+                    public boolean hasNext() {
+                        return next < size();
+                    }
+
+                    @Override
+                    public Version next() {
+                        if (!hasNext()) throw new NoSuchElementException();
+                        final Version v = new Version(loaders[next / versions.length], versions[next % versions.length]);
+                        next++;
+                        return v;
+                    }
+                };
+            }
+        };
+    }
+}
@@ -0,0 +1,111 @@
+package net.ovonsame.modding;
+
+import net.ovonsame.modding.interfaces.IntegrationFile;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.Unmodifiable;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Record class {@code DependencyGraph} contains required dependencies of a file resolved transitively by {@link DependencyResolver}
+ * @param root Node of the file the graph is resolved for
+ * @param nodes All nodes of the graph in breadth-first order starting with the root
+ * @param cycles Cycles of the graph, each of them starts and ends with the same node
+ */
+public record DependencyGraph(Node root, List<Node> nodes, List<List<Node>> cycles) {
+    public DependencyGraph {
+        nodes = List.copyOf(nodes);
+        cycles = List.copyOf(cycles);
+    }
+
+    /**
+     * @return Resolved files of all nodes including the root
+     */
+    public @Unmodifiable List<IntegrationFile> getFiles() {
+        final List<IntegrationFile> files = new ArrayList<>(nodes.size());
+        for (Node n : nodes) {
+            if (n.file != null) files.add(n.file);
+        }
+        return Collections.unmodifiableList(files);
+    }
+
+    /**
+     * @return Nodes which can not be resolved
+     */
+    public @Unmodifiable List<Node> getFailures() {
+        return nodes.stream().filter(n -> n.error != null).toList();
+    }
+
+    /**
+     * @return Whether all nodes were resolved
+     */
+    public boolean isComplete() {
+        return nodes.stream().allMatch(Node::isResolved);
+    }
+
+    /**
+     * @return Whether the graph has cycles
+     */
+    public boolean hasCycles() {
+        return !cycles.isEmpty();
+    }
+
+    /**
+     * Class {@code Node} is an integration required in the graph together with its selected file or the error which did not allow to select it
+     */
+    public static final class Node {
+        private final LazyIntegration integration;
+        private final @Nullable IntegrationFile file;
+        private final @Nullable IOException error;
+        final List<Node> requires = new ArrayList<>();
+
+        Node(final LazyIntegration integration, final @Nullable IntegrationFile file, final @Nullable IOException error) {
+            this.integration = integration;
+            this.file = file;
+            this.error = error;
+        }
+
+        /**
+         * @return The required integration
+         */
+        public LazyIntegration getIntegration() {
+            return integration;
+        }
+
+        /**
+         * @return Selected file of the integration or null if it can not be resolved
+         */
+        public @Nullable IntegrationFile getFile() {
+            return file;
+        }
+
+        /**
+         * @return The error which did not allow to resolve the integration or null if it is resolved
+         */
+        public @Nullable IOException getError() {
+            return error;
+        }
+
+        /**
+         * @return Whether the file of the integration is selected
+         */
+        public boolean isResolved() {
+            return file != null;
+        }
+
+        /**
+         * @return Nodes which the file of this node requires
+         */
+        public @Unmodifiable List<Node> getRequires() {
+            return Collections.unmodifiableList(requires);
+        }
+
+        @Override
+        public String toString() {
+            return integration.platform() + ":" + integration.identifier() + (file != null ? "@" + file.getId() : "");
+        }
+    }
+}
@@ -0,0 +1,223 @@
+package net.ovonsame.modding;
+
+import net.ovonsame.modding.DependencyGraph.Node;
+import net.ovonsame.modding.enumeration.Platform;
+import net.ovonsame.modding.interfaces.Integration;
+import net.ovonsame.modding.interfaces.IntegrationFile;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+/**
+ * Class {@code DependencyResolver} resolves all required dependencies of a file transitively. Dependencies of every level are fetched concurrently,
+ * each integration is fetched once per resolution however many files require it, and cycles are reported instead of being followed.
+ * <p>
+ * A dependency which is required by file is taken as it is. Otherwise the newest file of the dependency compatible with the target version is selected,
+ * and if there is no target, with any possible version of the root file
+ * @see DependencyGraph
+ */
+public final class DependencyResolver {
+    private final @Nullable Version target;
+    private final @Nullable String key;
+    private final Executor executor;
+
+    /**
+     * @param target Version which selected files must support, or null to select files which share a version with the root file
+     * @param key Optional key which is required for some platforms
+     * @param executor Executor to send the requests on
+     */
+    public DependencyResolver(final @Nullable Version target, final @Nullable String key, final Executor executor) {
+        this.target = target;
+        this.key = key;
+        this.executor = executor;
+    }
+
+    /**
+     * Creates the resolver which uses {@link Platform#getDefaultExecutor()}
+     * @param target Version which selected files must support, or null to select files which share a version with the root file
+     * @param key Optional key which is required for some platforms
+     */
+    public DependencyResolver(final @Nullable Version target, final @Nullable String key) {
+        this(target, key, Platform.getDefaultExecutor());
+    }
+
+    /**
+     * Resolves the graph of required dependencies of the file. Errors of single dependencies do not fail the resolution, they are kept in their nodes
+     * @param root File to resolve dependencies of
+     * @return The resolved graph
+     */
+    public DependencyGraph resolve(final IntegrationFile root) {
+        return new Resolution(root).run();
+    }
+
+    private record NodeKey(LazyIntegration integration, @Nullable String file) {}
+
+    /**
+     * State of a single resolution
+     */
+    private final class Resolution {
+        private final IntegrationFile root;
+        private final Compatibility wanted;
+        private final Map<LazyIntegration, CompletableFuture<Integration>> projects = new ConcurrentHashMap<>();
+        private final Map<NodeKey, CompletableFuture<Node>> nodes = new ConcurrentHashMap<>();
+        private final Map<Node, List<NodeKey>> edges = new ConcurrentHashMap<>();
+
+        private Resolution(final IntegrationFile root) {
+            this.root = root;
+            this.wanted = target != null ? Compatibility.of(target) : root.getCompatibility();
+        }
+
+        private DependencyGraph run() {
+            final Integration parent = root.getParentIntegration();
+            final LazyIntegration lazy = new LazyIntegration(parent.getPlatform(), parent.getId());
+            final Node first = new Node(lazy, root, null);
+            projects.put(lazy, CompletableFuture.completedFuture(parent));
+            nodes.put(new NodeKey(lazy, root.getId()), CompletableFuture.completedFuture(first));
+            expand(first);
+
+            List<CompletableFuture<Node>> pending;
+            do {
+                pending = List.copyOf(nodes.values());
+                CompletableFuture.allOf(pending.toArray(new CompletableFuture<?>[0])).join();
+            } while (pending.size() != nodes.size());
+
+            for (Map.Entry<Node, List<NodeKey>> e : edges.entrySet()) {
+                for (NodeKey k : e.getValue()) e.getKey().requires.add(nodes.get(k).join());
+            }
+            final List<Node> ordered = order(first);
+            return new DependencyGraph(first, ordered, cycles(ordered));
+        }
+
+        /**
+         * Schedules the nodes which the file of the node requires. They are registered before the future of the node completes
+         */
+        private void expand(final Node node) {
+            final IntegrationFile file = node.getFile();
+            final List<NodeKey> keys = new ArrayList<>();
+            if (file != null) {
+                try {
+                    for (Map.Entry<String, String> r : file.getRequirements().entrySet()) {
+                        keys.add(new NodeKey(new LazyIntegration(node.getIntegration().platform(), r.getKey()), r.getValue()));
+                    }
+                } catch (UncheckedIOException ignored) {}
+            }
+            edges.put(node, keys);
+            for (NodeKey k : keys) submit(k);
+        }
+
+        /**
+         * Resolves the node of the key once. When the selected file already has a node, for example when a dependency requires the root back,
+         * the key becomes an alias of that node
+         */
+        private void submit(final NodeKey k) {
+            final CompletableFuture<Node> future = new CompletableFuture<>();
+            if (nodes.putIfAbsent(k, future) != null) return;
+
+            projects.computeIfAbsent(k.integration(), i -> Modding.getIntegrationAsync(i, key, executor))
+                    .thenApplyAsync(i -> {
+                        final IntegrationFile f = select(i, k.file());
+                        final NodeKey exact = new NodeKey(new LazyIntegration(k.integration().platform(), i.getId()), f.getId());
+                        if (!exact.equals(k)) {
+                            final CompletableFuture<Node> existing = nodes.putIfAbsent(exact, future);
+                            if (existing != null) {
+                                existing.thenAccept(future::complete);
+                                return null;
+                            }
+                        }
+                        return new Node(exact.integration(), f, null);
+                    }, executor)
+                    .exceptionally(e -> new Node(k.integration(), null, unwrap(e)))
+                    .thenAccept(n -> {
+                        if (n == null) return;
+                        try {
+                            expand(n);
+                        } finally {
+                            future.complete(n);
+                        }
+                    });
+        }
+
+        /**
+         * Files for a target version are taken from the index of the integration, files compatible with the root file are found by a scan
+         */
+        private IntegrationFile select(final Integration integration, final @Nullable String file) {
+            try {
+                if (file != null) {
+                    for (IntegrationFile f : integration.getFiles()) {
+                        if (f.getId().equals(file)) return f;
+                    }
+                    throw new CompletionException(new IOException("File " + file + " of " + integration.getId() + " is not found"));
+                }
+
+                IntegrationFile best = null;
+                if (target != null) {
+                    best = integration.latestFileFor(target);
+                } else {
+                    for (IntegrationFile f : integration.getFiles()) {
+                        if (isCompatible(f) && (best == null || f.getPublished().after(best.getPublished()))) best = f;
+                    }
+                }
+                if (best != null) return best;
+                throw new CompletionException(new IOException("No file of " + integration.getId() + " is compatible with " + (target != null ? target : "the root file")));
+            } catch (UncheckedIOException e) {
+                throw new CompletionException(e.getCause());
+            }
+        }
+
+        private boolean isCompatible(final IntegrationFile file) {
+            return wanted.isEmpty() || file.getCompatibility().intersects(wanted);
+        }
+
+        private List<Node> order(final Node first) {
+            final Set<Node> seen = new LinkedHashSet<>();
+            final Deque<Node> queue = new ArrayDeque<>();
+            seen.add(first);
+            queue.add(first);
+            while (!queue.isEmpty()) {
+                for (Node n : queue.poll().requires) {
+                    if (seen.add(n)) queue.add(n);
+                }
+            }
+            return new ArrayList<>(seen);
+        }
+
+        /**
+         * Finds cycles by depth-first search, each back edge closes a cycle with the nodes of the current path
+         */
+        private List<List<Node>> cycles(final List<Node> ordered) {
+            final List<List<Node>> cycles = new ArrayList<>();
+            final Set<Node> done = new HashSet<>();
+            final List<Node> path = new ArrayList<>();
+            for (Node n : ordered) visit(n, path, done, cycles);
+            return cycles;
+        }
+
+        private void visit(final Node node, final List<Node> path, final Set<Node> done, final List<List<Node>> cycles) {
+            if (done.contains(node)) return;
+            final int at = path.indexOf(node);
+            if (at >= 0) {
+                final List<Node> cycle = new ArrayList<>(path.subList(at, path.size()));
+                cycle.add(node);
+                cycles.add(List.copyOf(cycle));
+                return;
+            }
+            path.add(node);
+            for (Node n : node.requires) visit(n, path, done, cycles);
+            path.remove(path.size() - 1);
+            done.add(node);
+        }
+
+        private static IOException unwrap(final Throwable e) {
+            final Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+            if (cause instanceof IOException io) return io;
+            if (cause instanceof UncheckedIOException u) return u.getCause();
+            return new IOException(cause);
+        }
+    }
+}
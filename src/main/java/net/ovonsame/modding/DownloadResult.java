@@ -0,0 +1,29 @@
+package net.ovonsame.modding;
+
+import net.ovonsame.modding.interfaces.IntegrationFile;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Record class {@code DownloadResult} contains files downloaded together by {@link Downloader#downloadAll(java.util.Collection, Path)}.
+ * Every requested file is either in {@code files} or in {@code failures}, and both keep the order in which the files were requested
+ * @param files Paths of downloaded files by the files
+ * @param failures Errors of files which can not be downloaded or verified
+ */
+public record DownloadResult(Map<IntegrationFile, Path> files, Map<IntegrationFile, IOException> failures) {
+    public DownloadResult {
+        files = Collections.unmodifiableMap(new LinkedHashMap<>(files));
+        failures = Collections.unmodifiableMap(new LinkedHashMap<>(failures));
+    }
+
+    /**
+     * @return Whether all files were downloaded
+     */
+    public boolean isSuccessful() {
+        return failures.isEmpty();
+    }
+}
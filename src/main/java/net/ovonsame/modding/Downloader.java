@@ -0,0 +1,366 @@
+package net.ovonsame.modding;
+
+import net.ovonsame.modding.enumeration.Platform;
+import net.ovonsame.modding.interfaces.IntegrationFile;
+import net.ovonsame.modding.network.HttpStatusException;
+import net.ovonsame.modding.network.HttpTransport;
+import net.ovonsame.modding.network.NotFoundException;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Class {@code Downloader} downloads files of integrations concurrently, at most {@code parallelism} of them at once.
+ * A file is written to a {@code .part} file next to its target through a {@link FileChannel} from a reused direct buffer and hashed while it is written,
+ * so it is read once. A {@code .part} file which is left by a failed download is continued with an HTTP range request.
+ * The file is moved to its target only when it matches the strongest hash given by the platform, and files which already match it are not downloaded again.
+ * <p>
+ * Downloads wait in a queue and are submitted to the executor only when a permit is free, so waiting downloads do not hold threads.
+ * Downloads to the same path run one after another, so they never write the same {@code .part} file at once
+ * @see IntegrationFile#getHashes()
+ */
+public final class Downloader {
+    private static final int BUFFER = 1 << 20;
+    private static final List<String> ALGORITHMS = List.of("SHA-512", "SHA-256", "SHA-1", "MD5");
+
+    private final HttpClient client;
+    private final Semaphore permits;
+    private final Executor executor;
+    private final @Nullable Listener listener;
+    private final Queue<ByteBuffer> buffers = new ConcurrentLinkedQueue<>();
+    private final Queue<Task> pending = new ConcurrentLinkedQueue<>();
+    private final Map<Path, CompletableFuture<Path>> active = new ConcurrentHashMap<>();
+
+    /**
+     * @param parallelism Maximum number of files which are downloaded at once, and of threads of the executor which are used at once
+     * @param executor Executor to download the files on
+     * @param listener Listener of the progress or null
+     */
+    public Downloader(final int parallelism, final Executor executor, final @Nullable Listener listener) {
+        if (parallelism <= 0) throw new IllegalArgumentException("Parallelism must be positive");
+        this.client = HttpClient.newBuilder()
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        this.permits = new Semaphore(parallelism);
+        this.executor = executor;
+        this.listener = listener;
+    }
+
+    /**
+     * Creates the downloader which uses {@link Platform#getDefaultExecutor()} and does not report progress
+     * @param parallelism Maximum number of files which are downloaded at once
+     */
+    public Downloader(final int parallelism) {
+        this(parallelism, Platform.getDefaultExecutor(), null);
+    }
+
+    /**
+     * Downloads the file into the directory under its name
+     * @param file File to download
+     * @param directory Directory to download the file into
+     * @return Path of the downloaded file
+     * @throws IOException If the file has no URL, can not be downloaded or written, or does not match its hash
+     */
+    public Path download(final IntegrationFile file, final Path directory) throws IOException {
+        return Platform.join(downloadAsync(file, directory));
+    }
+
+    /**
+     * Asynchronous version of {@link #download(IntegrationFile, Path)}
+     * @param file File to download
+     * @param directory Directory to download the file into
+     * @return Future of the path which completes exceptionally with {@code IOException} if the file can not be downloaded
+     */
+    public CompletableFuture<Path> downloadAsync(final IntegrationFile file, final Path directory) {
+        final Path target;
+        try {
+            target = target(file, directory);
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        final Task task = new Task(file, target, new CompletableFuture<>());
+        pending.add(task);
+        drain();
+        return task.future();
+    }
+
+    /**
+     * Downloads the files concurrently. Errors of single files do not fail the others.
+     * Different files with the same name are not downloaded over each other, every file after the first one with a name fails
+     * @param files Files to download
+     * @param directory Directory to download the files into
+     * @return Downloaded files and errors of the files which can not be downloaded, in the order of the files
+     */
+    public DownloadResult downloadAll(final Collection<IntegrationFile> files, final Path directory) {
+        final Map<IntegrationFile, CompletableFuture<Path>> futures = new LinkedHashMap<>();
+        final Map<Path, IntegrationFile> targets = new HashMap<>();
+        for (IntegrationFile file : files) {
+            if (futures.containsKey(file)) continue;
+            try {
+                final IntegrationFile other = targets.putIfAbsent(target(file, directory), file);
+                if (other != null) throw new IOException("File " + file.getFileName() + " of " + file.getParentIntegration().getId()
+                        + " has the same name as a file of " + other.getParentIntegration().getId());
+                futures.put(file, downloadAsync(file, directory));
+            } catch (IOException e) {
+                futures.put(file, CompletableFuture.failedFuture(e));
+            }
+        }
+
+        final Map<IntegrationFile, Path> downloaded = new LinkedHashMap<>();
+        final Map<IntegrationFile, IOException> failures = new LinkedHashMap<>();
+        for (Map.Entry<IntegrationFile, CompletableFuture<Path>> e : futures.entrySet()) {
+            try {
+                downloaded.put(e.getKey(), Platform.join(e.getValue()));
+            } catch (IOException ex) {
+                failures.put(e.getKey(), ex);
+            } catch (RuntimeException ex) {
+                failures.put(e.getKey(), new IOException(ex));
+            }
+        }
+        return new DownloadResult(downloaded, failures);
+    }
+
+    /**
+     * Submits waiting downloads while there are free permits. It is called when a download is queued and when one finishes
+     */
+    private void drain() {
+        while (!pending.isEmpty() && permits.tryAcquire()) {
+            final Task task = pending.poll();
+            if (task == null) {
+                permits.release();
+                continue;
+            }
+            try {
+                executor.execute(() -> run(task));
+            } catch (RejectedExecutionException e) {
+                permits.release();
+                task.future().completeExceptionally(new IOException("Download of " + task.file().getFileName() + " was rejected", e));
+            }
+        }
+    }
+
+    /**
+     * Downloads the file of the task, or queues it again after the download to the same path
+     */
+    private void run(final Task task) {
+        try {
+            final CompletableFuture<Path> other = active.putIfAbsent(task.target(), task.future());
+            if (other != null) {
+                other.whenComplete((p, e) -> {
+                    pending.add(task);
+                    drain();
+                });
+                return;
+            }
+            Path path = null;
+            Throwable error = null;
+            try {
+                path = fetch(task.file(), task.target());
+            } catch (IOException | RuntimeException e) {
+                error = e;
+            }
+            // Removed before completion, which runs callbacks of downloads waiting for the same path
+            active.remove(task.target(), task.future());
+            if (error != null) task.future().completeExceptionally(error);
+            else task.future().complete(path);
+        } finally {
+            permits.release();
+            drain();
+        }
+    }
+
+    /**
+     * @return Normalized absolute path of the file in the directory
+     * @throws IOException If the name of the file is not a valid file name
+     */
+    private static Path target(final IntegrationFile file, final Path directory) throws IOException {
+        final Path name;
+        try {
+            name = Path.of(file.getFileName()).getFileName();
+        } catch (InvalidPathException e) {
+            throw new IOException("Invalid name of file " + file.getId(), e);
+        }
+        if (name == null) throw new IOException("File " + file.getId() + " has no name");
+        return directory.resolve(name).toAbsolutePath().normalize();
+    }
+
+    private Path fetch(final IntegrationFile file, final Path target) throws IOException {
+        final URL url = file.getURL();
+        if (url == null) throw new IOException("File " + file.getFileName() + " has no download URL");
+        final Path directory = target.getParent();
+        final Path part = directory.resolve(target.getFileName() + ".part");
+
+        final Map<String, String> hashes = file.getHashes();
+        final String algorithm = ALGORITHMS.stream().filter(hashes::containsKey).findFirst().orElse(null);
+        final MessageDigest digest = algorithm != null ? digest(algorithm) : null;
+
+        final ByteBuffer buffer = buffer();
+        try {
+            if (digest != null && Files.isRegularFile(target)) {
+                try (FileChannel channel = FileChannel.open(target, StandardOpenOption.READ)) {
+                    hash(channel, channel.size(), digest, buffer);
+                }
+                if (HexFormat.of().formatHex(digest.digest()).equals(hashes.get(algorithm))) return target;
+            }
+
+            Files.createDirectories(directory);
+            try (FileChannel channel = FileChannel.open(part, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                long offset = channel.size();
+                if (digest != null && offset > 0) hash(channel, offset, digest, buffer);
+                write(file, url, channel, offset, digest, buffer);
+            }
+
+            if (digest != null && !HexFormat.of().formatHex(digest.digest()).equals(hashes.get(algorithm))) {
+                Files.deleteIfExists(part);
+                throw new IOException("File " + file.getFileName() + " does not match its " + algorithm + " hash");
+            }
+            try {
+                Files.move(part, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(part, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+            return target;
+        } finally {
+            buffer.clear();
+            buffers.offer(buffer);
+        }
+    }
+
+    /**
+     * Requests the rest of the file after {@code offset}. If the server ignores the range or answers with another one, the file is written from the start
+     */
+    private void write(final IntegrationFile file, final URL url, final FileChannel channel, long offset,
+                       final @Nullable MessageDigest digest, final ByteBuffer buffer) throws IOException {
+        final Platform platform = file.getParentIntegration().getPlatform();
+        final HttpRequest.Builder builder;
+        try {
+            builder = HttpRequest.newBuilder(url.toURI())
+                    .timeout(platform.getReadTimeout())
+                    .header("User-Agent", HttpTransport.USER_AGENT);
+        } catch (URISyntaxException | IllegalArgumentException e) {
+            throw new IOException("Invalid URL " + url, e);
+        }
+        if (offset > 0) builder.header("Range", "bytes=" + offset + "-");
+
+        final HttpResponse<InputStream> response;
+        try {
+            response = client.send(builder.build(), HttpResponse.BodyHandlers.ofInputStream());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while downloading " + file.getFileName());
+        }
+
+        try (InputStream body = response.body(); ReadableByteChannel in = Channels.newChannel(body)) {
+            final int status = response.statusCode();
+            if (status == 416 && offset > 0) return;
+            if (status == 404 || status == 410) throw new NotFoundException(platform, url.getPath(), status);
+            if (status != 200 && status != 206) throw new HttpStatusException(platform, url.getPath(), status);
+            if (status == 206 && !matches(response.headers().firstValue("Content-Range").orElse(null), offset)) {
+                channel.truncate(0);
+                if (digest != null) digest.reset();
+                body.close();
+                write(file, url, channel, 0, digest, buffer);
+                return;
+            }
+            if (status == 200 && offset > 0) {
+                offset = 0;
+                channel.truncate(0);
+                if (digest != null) digest.reset();
+            }
+
+            final OptionalLong length = response.headers().firstValueAsLong("Content-Length");
+            final long total = length.isPresent() ? offset + length.getAsLong() : -1;
+            channel.position(offset);
+            while (in.read(buffer) != -1) {
+                buffer.flip();
+                if (digest != null) {
+                    digest.update(buffer);
+                    buffer.rewind();
+                }
+                while (buffer.hasRemaining()) offset += channel.write(buffer);
+                buffer.clear();
+                if (listener != null) listener.onProgress(file, offset, total);
+            }
+        }
+    }
+
+    /**
+     * @param range Value of {@code Content-Range} header like {@code bytes 100-199/200}
+     * @param offset Length of the {@code .part} file
+     * @return Whether the range starts right after the {@code .part} file
+     */
+    private static boolean matches(final @Nullable String range, final long offset) {
+        if (range == null || !range.startsWith("bytes ")) return false;
+        final int dash = range.indexOf('-');
+        if (dash < 0) return false;
+        try {
+            return Long.parseLong(range.substring(6, dash).trim()) == offset;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    private static void hash(final FileChannel channel, final long length, final MessageDigest digest, final ByteBuffer buffer) throws IOException {
+        long position = 0;
+        while (position < length) {
+            buffer.clear().limit((int) Math.min(buffer.capacity(), length - position));
+            final int read = channel.read(buffer, position);
+            if (read < 0) break;
+            position += read;
+            buffer.flip();
+            digest.update(buffer);
+        }
+        buffer.clear();
+    }
+
+    private ByteBuffer buffer() {
+        final ByteBuffer buffer = buffers.poll();
+        return buffer != null ? buffer : ByteBuffer.allocateDirect(BUFFER);
+    }
+
+    private static MessageDigest digest(final String algorithm) throws IOException {
+        try {
+            return MessageDigest.getInstance(algorithm);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IOException("Hash algorithm " + algorithm + " is not supported", e);
+        }
+    }
+
+    private record Task(IntegrationFile file, Path target, CompletableFuture<Path> future) {}
+
+    /**
+     * Listener of the progress of downloads. It is called from the threads which download the files
+     */
+    @FunctionalInterface
+    public interface Listener {
+        /**
+         * @param file File which is downloaded
+         * @param downloaded Number of bytes of the file which are written, including the ones of a continued {@code .part} file
+         * @param total Size of the file or -1 if it is unknown
+         */
+        void onProgress(IntegrationFile file, long downloaded, long total);
+    }
+}
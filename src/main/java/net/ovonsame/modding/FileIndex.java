@@ -0,0 +1,138 @@
+package net.ovonsame.modding;
+
+import net.ovonsame.modding.interfaces.ILoader;
+import net.ovonsame.modding.interfaces.IntegrationFile;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.Unmodifiable;
+
+import java.util.*;
+
+/**
+ * Class {@code FileIndex} is an inverted index of files of an integration by game version and by loader, built once from all its files.
+ * Files are ordered from the newest, and every game version and loader keeps the ascending positions of its files, so files for a version
+ * are found by two hash lookups and a merge of two sorted arrays instead of a scan of all files
+ * @see net.ovonsame.modding.interfaces.Integration#getFileIndex()
+ */
+public final class FileIndex {
+    private static final int[] NONE = new int[0];
+
+    private final IntegrationFile[] files;
+    private final Map<String, int[]> versions;
+    private final Map<ILoader, int[]> loaders;
+
+    private FileIndex(final IntegrationFile[] files, final Map<String, int[]> versions, final Map<ILoader, int[]> loaders) {
+        this.files = files;
+        this.versions = versions;
+        this.loaders = loaders;
+    }
+
+    /**
+     * Builds the index. It reads every file, so files which are listed by pages are all fetched
+     * @param files Files of an integration
+     * @return Index of the files
+     */
+    public static FileIndex of(final Collection<IntegrationFile> files) {
+        final IntegrationFile[] sorted = files.toArray(new IntegrationFile[0]);
+        final long[] published = new long[sorted.length];
+        final Integer[] order = new Integer[sorted.length];
+        for (int i = 0; i < sorted.length; i++) {
+            published[i] = sorted[i].getPublished().getTime();
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Long.compare(published[b], published[a]));
+
+        final IntegrationFile[] ordered = new IntegrationFile[sorted.length];
+        final Map<String, List<Integer>> versions = new HashMap<>();
+        final Map<ILoader, List<Integer>> loaders = new HashMap<>();
+        for (int i = 0; i < order.length; i++) {
+            final IntegrationFile f = sorted[order[i]];
+            final Compatibility c = f.getCompatibility();
+            ordered[i] = f;
+            for (String v : c.gameVersions()) add(versions, v, i);
+            for (ILoader l : c.loaders()) add(loaders, l, i);
+        }
+        return new FileIndex(ordered, trim(versions), trim(loaders));
+    }
+
+    private static <K> void add(final Map<K, List<Integer>> map, final K key, final int position) {
+        final List<Integer> positions = map.computeIfAbsent(key, k -> new ArrayList<>());
+        if (positions.isEmpty() || positions.get(positions.size() - 1) != position) positions.add(position);
+    }
+
+    private static <K> Map<K, int[]> trim(final Map<K, List<Integer>> map) {
+        final Map<K, int[]> result = new HashMap<>(map.size() * 4 / 3 + 1);
+        map.forEach((k, v) -> result.put(k, v.stream().mapToInt(Integer::intValue).toArray()));
+        return result;
+    }
+
+    /**
+     * @param version Version
+     * @return Files which support the version from the newest
+     */
+    public @Unmodifiable List<IntegrationFile> filesFor(final Version version) {
+        final int[] a = versions.getOrDefault(version.version(), NONE);
+        final int[] b = loaders.getOrDefault(version.loader(), NONE);
+        final List<IntegrationFile> result = new ArrayList<>(Math.min(a.length, b.length));
+        for (int i = 0, j = 0; i < a.length && j < b.length; ) {
+            if (a[i] < b[j]) i++;
+            else if (a[i] > b[j]) j++;
+            else {
+                result.add(files[a[i]]);
+                i++;
+                j++;
+            }
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    /**
+     * @param version Version
+     * @return The newest file which supports the version or null if there is none
+     */
+    public @Nullable IntegrationFile latestFileFor(final Version version) {
+        final int[] a = versions.getOrDefault(version.version(), NONE);
+        final int[] b = loaders.getOrDefault(version.loader(), NONE);
+        for (int i = 0, j = 0; i < a.length && j < b.length; ) {
+            if (a[i] < b[j]) i++;
+            else if (a[i] > b[j]) j++;
+            else return files[a[i]];
+        }
+        return null;
+    }
+
+    /**
+     * @param version Game version
+     * @return Files which support the game version with any loader from the newest
+     */
+    public @Unmodifiable List<IntegrationFile> filesFor(final String version) {
+        return select(versions.getOrDefault(version, NONE));
+    }
+
+    /**
+     * @param loader Loader
+     * @return Files which support the loader with any game version from the newest
+     */
+    public @Unmodifiable List<IntegrationFile> filesFor(final ILoader loader) {
+        return select(loaders.getOrDefault(loader, NONE));
+    }
+
+    /**
+     * @return Game versions which any file supports
+     */
+    public @Unmodifiable Set<String> getGameVersions() {
+        return Collections.unmodifiableSet(versions.keySet());
+    }
+
+    /**
+     * @return All files from the newest
+     */
+    public @Unmodifiable List<IntegrationFile> getFiles() {
+        return List.of(files);
+    }
+
+    private List<IntegrationFile> select(final int[] positions) {
+        final IntegrationFile[] selected = new IntegrationFile[positions.length];
+        for (int i = 0; i < positions.length; i++) selected[i] = files[positions[i]];
+        return List.of(selected);
+    }
+}
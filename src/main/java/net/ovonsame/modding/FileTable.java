@@ -0,0 +1,362 @@
+package net.ovonsame.modding;
+
+import net.ovonsame.modding.enumeration.IntegrationType;
+import net.ovonsame.modding.enumeration.Side;
+import net.ovonsame.modding.interfaces.ILoader;
+import net.ovonsame.modding.interfaces.Integration;
+import net.ovonsame.modding.interfaces.IntegrationFile;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.Unmodifiable;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Class {@code FileTable} is an unmodifiable list of files of an integration decoded once from the responses of a platform.
+ * Values of all files are kept in parallel arrays, and its elements are lightweight views which read them by index,
+ * so a table does not hold the decoded JSON and its getters do not parse anything.
+ * Changelogs which are not a part of the response and dependencies are fetched on first access and kept
+ */
+final class FileTable extends AbstractList<IntegrationFile> implements RandomAccess {
+    private static final String[] NONE = new String[0];
+
+    private final Integration parent;
+    private final IntegrationType type;
+    private final @Nullable String key;
+    private final @Nullable Changelogs loader;
+
+    private final String[] ids;
+    private final String[] names;
+    private final @Nullable URL[] urls;
+    private final List<Map<String, String>> hashes;
+    private final int[] sizes;
+    private final int[] downloads;
+    private final long[] published;
+    private final String[][] versions;
+    private final ILoader[][] loaders;
+    private final Side[] sides;
+    private final String[][] requires;
+    private final @Nullable String[][] requiredFiles;
+
+    private final AtomicReferenceArray<String> changelogs;
+    private final AtomicReferenceArray<Collection<IntegrationFile>> dependencies;
+    private final AtomicReferenceArray<Compatibility> compatibilities;
+
+    private FileTable(final Builder builder) {
+        this.parent = builder.parent;
+        this.type = builder.type;
+        this.key = builder.key;
+        this.loader = builder.loader;
+
+        final int size = builder.ids.size();
+        this.ids = builder.ids.toArray(NONE);
+        this.names = builder.names.toArray(NONE);
+        this.urls = builder.urls.toArray(new URL[size]);
+        this.hashes = List.copyOf(builder.hashes);
+        this.sizes = Arrays.copyOf(builder.sizes, size);
+        this.downloads = Arrays.copyOf(builder.downloads, size);
+        this.published = Arrays.copyOf(builder.published, size);
+        this.versions = builder.versions.toArray(new String[size][]);
+        this.loaders = builder.loaders.toArray(new ILoader[size][]);
+        this.sides = builder.sides.toArray(new Side[size]);
+        this.requires = builder.requires.toArray(new String[size][]);
+        this.requiredFiles = builder.requiredFiles.toArray(new String[size][]);
+        this.changelogs = new AtomicReferenceArray<>(builder.changelogs.toArray(NONE));
+        this.dependencies = new AtomicReferenceArray<>(size);
+        this.compatibilities = new AtomicReferenceArray<>(size);
+    }
+
+    @Override
+    public IntegrationFile get(final int index) {
+        Objects.checkIndex(index, ids.length);
+        return new File(index);
+    }
+
+    @Override
+    public int size() {
+        return ids.length;
+    }
+
+    private String changelog(final int index) {
+        final String changelog = changelogs.get(index);
+        if (changelog != null || loader == null) return changelog != null ? changelog : "";
+        try {
+            final String loaded = loader.load(ids[index]);
+            changelogs.compareAndSet(index, null, loaded);
+            return loaded;
+        } catch (IOException e) {
+            return "";
+        }
+    }
+
+    /**
+     * A required file is taken by its identifier if the platform gives it, otherwise it is the first file of the required integration
+     * which shares a version with the dependent file
+     */
+    private Collection<IntegrationFile> dependencies(final int index) {
+        final Collection<IntegrationFile> cached = dependencies.get(index);
+        if (cached != null) return cached;
+
+        final List<IntegrationFile> list = new ArrayList<>();
+        final Compatibility own = compatibility(index);
+        for (int d = 0; d < requires[index].length; d++) {
+            try {
+                final Collection<IntegrationFile> files = Modding.getIntegration(parent.getPlatform(), requires[index][d], key).getFiles();
+                final String file = requiredFiles[index][d];
+                if (file != null) {
+                    for (IntegrationFile f : files) {
+                        if (f.getId().equals(file)) {
+                            list.add(f);
+                            break;
+                        }
+                    }
+                } else {
+                    files.stream()
+                            .filter(f -> f.getCompatibility().intersects(own))
+                            .findFirst()
+                            .ifPresent(list::add);
+                }
+            } catch (IOException | UncheckedIOException ignored) {}
+        }
+
+        final Collection<IntegrationFile> result = Collections.unmodifiableList(list);
+        dependencies.compareAndSet(index, null, result);
+        return dependencies.get(index);
+    }
+
+    private Compatibility compatibility(final int index) {
+        final Compatibility cached = compatibilities.get(index);
+        if (cached != null) return cached;
+        compatibilities.compareAndSet(index, null, Compatibility.of(get(index)));
+        return compatibilities.get(index);
+    }
+
+    /**
+     * Lightweight view of a file in the table
+     */
+    private final class File implements IntegrationFile {
+        private final int index;
+
+        private File(final int index) {
+            this.index = index;
+        }
+
+        @Override
+        public String getChangelog() {
+            return changelog(index);
+        }
+
+        @Override
+        public String getFileName() {
+            return names[index];
+        }
+
+        @Override
+        public @Nullable URL getURL() {
+            return urls[index];
+        }
+
+        @Override @Unmodifiable
+        public Map<String, String> getHashes() {
+            return hashes.get(index);
+        }
+
+        @Override
+        public int getSize() {
+            return sizes[index];
+        }
+
+        @Override
+        public Date getPublished() {
+            return new Date(published[index]);
+        }
+
+        @Override
+        public int getFileDownloads() {
+            return downloads[index];
+        }
+
+        @Override
+        public ILoader[] getLoaders() {
+            return loaders[index].clone();
+        }
+
+        @Override
+        public String[] getVersions() {
+            return versions[index].clone();
+        }
+
+        @Override
+        public IntegrationType getType() {
+            return type;
+        }
+
+        @Override
+        public Side getSide() {
+            return sides[index];
+        }
+
+        @Override
+        public Integration getParentIntegration() {
+            return parent;
+        }
+
+        @Override @Unmodifiable
+        public Collection<IntegrationFile> getDependencies() {
+            return dependencies(index);
+        }
+
+        @Override
+        public Compatibility getCompatibility() {
+            return compatibility(index);
+        }
+
+        @Override @Unmodifiable
+        public Map<String, @Nullable String> getRequirements() {
+            final Map<String, String> requirements = new LinkedHashMap<>();
+            for (int d = 0; d < requires[index].length; d++) requirements.putIfAbsent(requires[index][d], requiredFiles[index][d]);
+            return Collections.unmodifiableMap(requirements);
+        }
+
+        @Override
+        public String getId() {
+            return ids[index];
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            return o instanceof File f && f.table() == FileTable.this && f.index == index;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(FileTable.this) * 31 + index;
+        }
+
+        private FileTable table() {
+            return FileTable.this;
+        }
+    }
+
+    /**
+     * Fetches a changelog which is not a part of the file listing
+     */
+    @FunctionalInterface
+    interface Changelogs {
+        /**
+         * @param file Identifier of the file
+         * @return The changelog
+         * @throws IOException If the changelog can not be fetched
+         */
+        String load(String file) throws IOException;
+    }
+
+    /**
+     * Class {@code Builder} collects decoded files of a response
+     */
+    static final class Builder {
+        private final Integration parent;
+        private final IntegrationType type;
+        private final @Nullable String key;
+        private @Nullable Changelogs loader;
+
+        private final List<String> ids;
+        private final List<String> names;
+        private final List<@Nullable URL> urls;
+        private final List<Map<String, String>> hashes;
+        private int[] sizes;
+        private int[] downloads;
+        private long[] published;
+        private final List<String[]> versions;
+        private final List<ILoader[]> loaders;
+        private final List<Side> sides;
+        private final List<@Nullable String> changelogs;
+        private final List<String[]> requires;
+        private final List<@Nullable String[]> requiredFiles;
+
+        /**
+         * @param parent Integration of the files
+         * @param type Type of the integration
+         * @param key Optional key which is required for some platforms, used to fetch changelogs and dependencies
+         * @param capacity Expected number of files
+         */
+        Builder(final Integration parent, final IntegrationType type, final @Nullable String key, final int capacity) {
+            this.parent = parent;
+            this.type = type;
+            this.key = key;
+            this.ids = new ArrayList<>(capacity);
+            this.names = new ArrayList<>(capacity);
+            this.urls = new ArrayList<>(capacity);
+            this.hashes = new ArrayList<>(capacity);
+            this.sizes = new int[Math.max(capacity, 1)];
+            this.downloads = new int[Math.max(capacity, 1)];
+            this.published = new long[Math.max(capacity, 1)];
+            this.versions = new ArrayList<>(capacity);
+            this.loaders = new ArrayList<>(capacity);
+            this.sides = new ArrayList<>(capacity);
+            this.changelogs = new ArrayList<>(capacity);
+            this.requires = new ArrayList<>(capacity);
+            this.requiredFiles = new ArrayList<>(capacity);
+        }
+
+        /**
+         * @param loader Loader of changelogs which are not given to {@link #add}
+         * @return This builder
+         */
+        Builder changelogs(final Changelogs loader) {
+            this.loader = loader;
+            return this;
+        }
+
+        /**
+         * Adds a file. Game versions are interned by {@link GameVersionCatalog} because the same few versions repeat across thousands of files
+         * @param id Identifier of the file
+         * @param name Name of the file
+         * @param url Download URL of the file
+         * @param hashes Hashes of the file by names of their algorithms
+         * @param size Size of the file
+         * @param downloads Number of downloads of the file
+         * @param published Time of publishing in milliseconds
+         * @param versions Game versions of the file
+         * @param loaders Loaders of the file
+         * @param side Side of the file
+         * @param changelog Changelog of the file or null if it is fetched on demand
+         * @param requires Identifiers of required integrations
+         * @param requiredFiles Identifiers of required files, each of them is null if the platform does not give it
+         * @return This builder
+         */
+        Builder add(final String id, final String name, final @Nullable URL url, final Map<String, String> hashes, final int size, final int downloads, final long published,
+                    final String[] versions, final ILoader[] loaders, final Side side, final @Nullable String changelog,
+                    final String[] requires, final @Nullable String[] requiredFiles) {
+            final int index = ids.size();
+            if (index == sizes.length) {
+                this.sizes = Arrays.copyOf(sizes, index * 2);
+                this.downloads = Arrays.copyOf(this.downloads, index * 2);
+                this.published = Arrays.copyOf(this.published, index * 2);
+            }
+            for (int i = 0; i < versions.length; i++) versions[i] = GameVersionCatalog.of(versions[i]).getName();
+
+            ids.add(id);
+            names.add(name);
+            urls.add(url);
+            this.hashes.add(Map.copyOf(hashes));
+            this.sizes[index] = size;
+            this.downloads[index] = downloads;
+            this.published[index] = published;
+            this.versions.add(versions);
+            this.loaders.add(loaders);
+            sides.add(side);
+            changelogs.add(changelog);
+            this.requires.add(requires);
+            this.requiredFiles.add(requiredFiles != null ? requiredFiles : new String[requires.length]);
+            return this;
+        }
+
+        FileTable build() {
+            return new FileTable(this);
+        }
+    }
+}
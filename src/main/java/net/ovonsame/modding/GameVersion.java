@@ -0,0 +1,89 @@
+package net.ovonsame.modding;
+
+import net.ovonsame.modding.enumeration.ReleaseType;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Class {@code GameVersion} is a canonical Minecraft version of {@link GameVersionCatalog}. Versions are ordered by a packed numeric key,
+ * in which major, minor and patch numbers are followed by the stage and its number, so "1.20.9" is before "1.20.10",
+ * and snapshots, pre-releases and release candidates are before the release they lead to.
+ * Versions with the same key, like names which can not be parsed and have the key 0, are ordered by name
+ */
+public final class GameVersion implements Comparable<GameVersion> {
+    private final String name;
+    private final ReleaseType type;
+    private final long key;
+    private final int ordinal;
+
+    GameVersion(final String name, final ReleaseType type, final long key, final int ordinal) {
+        this.name = name;
+        this.type = type;
+        this.key = key;
+        this.ordinal = ordinal;
+    }
+
+    /**
+     * @return Name of the version as platforms give it
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return Type of the version
+     */
+    public ReleaseType getType() {
+        return type;
+    }
+
+    /**
+     * @return Sort key of the version
+     */
+    public long getKey() {
+        return key;
+    }
+
+    /**
+     * @return Whether the version is not a release
+     */
+    public boolean isSnapshot() {
+        return type != ReleaseType.RELEASE;
+    }
+
+    /**
+     * @param series Series like "1.20"
+     * @return Whether the version is a release, snapshot or pre-release of the series
+     */
+    public boolean isIn(final String series) {
+        final long from = GameVersionCatalog.series(series);
+        return key >= from && key < from + GameVersionCatalog.SERIES;
+    }
+
+    /**
+     * @return Position of the version which is assigned once for the process
+     */
+    int ordinal() {
+        return ordinal;
+    }
+
+    @Override
+    public int compareTo(final @NotNull GameVersion o) {
+        final int c = Long.compare(key, o.key);
+        return c != 0 ? c : name.compareTo(o.name);
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        return o instanceof GameVersion v && v.name.equals(name);
+    }
+
+    @Override
+    public int hashCode() {
+        return name.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
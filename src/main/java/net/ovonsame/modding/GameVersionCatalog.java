@@ -0,0 +1,193 @@
+package net.ovonsame.modding;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import net.ovonsame.modding.enumeration.Platform;
+import net.ovonsame.modding.enumeration.ReleaseType;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.Unmodifiable;
+
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static net.ovonsame.modding.enumeration.Platform.*;
+import static net.ovonsame.modding.enumeration.ReleaseType.*;
+
+/**
+ * Class {@code GameVersionCatalog} interns names of Minecraft versions to canonical {@link GameVersion}s, so every name is parsed once for the process.
+ * Types and order of versions are parsed from their names, weekly snapshots can not be placed among releases this way and are ordered before them
+ * until the catalog is refreshed from Modrinth {@code /tag/game_version}, which lists them in the order of release.
+ * CurseForge {@code /minecraft/version} only adds versions which are not known yet
+ */
+public final class GameVersionCatalog {
+    private static final int MAJOR = 54, MINOR = 44, PATCH = 34, STAGE = 31;
+    private static final long FIELD = 1023, NUMBER = (1L << STAGE) - 1, BUILD = (1L << 26) - 1, PART = (1L << 9) - 1;
+    private static final int STAGE_SNAPSHOT = 0, STAGE_PRE_RELEASE = 2, STAGE_RELEASE_CANDIDATE = 4, STAGE_RELEASE = 6;
+
+    /**
+     * Width of the keys of one series, like "1.20"
+     */
+    static final long SERIES = 1L << MINOR;
+
+    private static final Pattern NUMBERED = Pattern.compile("(\\d+)(?:\\.(\\d+))?(?:\\.(\\d+))?([^a-z0-9.].*)?");
+    private static final Pattern WEEKLY = Pattern.compile("(\\d\\d)w(\\d\\d)([a-z]?).*");
+    private static final Pattern OLD = Pattern.compile("(rd-|c|in-|inf-|a|b)(\\d+)(?:\\.(\\d+))?(?:[._](\\d+))?.*");
+
+    /**
+     * Prefixes of versions before 1.0 in the order of release: pre-classic, classic, indev, infdev, alpha and beta
+     */
+    private static final List<String> ERAS = List.of("rd-", "c", "in-", "inf-", "a", "b");
+
+    private static final Map<String, GameVersion> VERSIONS = new ConcurrentHashMap<>();
+    private static final AtomicInteger NEXT = new AtomicInteger();
+
+    private GameVersionCatalog() {}
+
+    /**
+     * @param name Name of the version as platforms give it
+     * @return The canonical version
+     */
+    public static GameVersion of(final String name) {
+        final GameVersion version = VERSIONS.get(name);
+        return version != null ? version : VERSIONS.computeIfAbsent(name, n -> parse(n, NEXT.getAndIncrement()));
+    }
+
+    /**
+     * @return All known versions from the newest
+     */
+    public static @Unmodifiable List<GameVersion> getVersions() {
+        final List<GameVersion> versions = new ArrayList<>(VERSIONS.values());
+        versions.sort(Comparator.reverseOrder());
+        return Collections.unmodifiableList(versions);
+    }
+
+    /**
+     * @param series Series like "1.20"
+     * @return Known releases, snapshots and pre-releases of the series from the newest
+     */
+    public static @Unmodifiable List<GameVersion> getSeries(final String series) {
+        final long from = series(series);
+        return getVersions().stream().filter(v -> v.getKey() >= from && v.getKey() < from + SERIES).toList();
+    }
+
+    /**
+     * Fetches versions of the platform. Modrinth also gives types of versions and places snapshots before the releases they lead to
+     * @param platform Platform to fetch versions from
+     * @param key Optional key which is required for some platforms
+     * @return Number of added or refined versions
+     * @throws IOException If key is not provided or is invalid and the platform requires it, if some errors occurs while connecting with the platform
+     * @throws IllegalArgumentException If the platform is Spiget, which does not provide versions
+     */
+    public static int refresh(final Platform platform, final @Nullable String key) throws IOException {
+        int changed = 0;
+        switch (platform) {
+            case MODRINTH -> {
+                GameVersion newer = null;
+                for (JsonElement e : MODRINTH.getResponseArray("/tag/game_version", key)) {
+                    final JsonObject v = e.getAsJsonObject();
+                    final String name = v.get("version").getAsString();
+                    final GameVersion parsed = parse(name, -1);
+                    final ReleaseType type = switch (v.get("version_type").getAsString()) {
+                        case "release" -> RELEASE;
+                        case "beta" -> BETA;
+                        case "alpha" -> ALPHA;
+                        default -> parsed.getType() == RELEASE ? SNAPSHOT : parsed.getType();
+                    };
+                    final Matcher weekly = WEEKLY.matcher(name.toLowerCase(Locale.ROOT));
+                    final long k = newer != null && type == SNAPSHOT && weekly.matches()
+                            ? (newer.getKey() & ~((1L << PATCH) - 1)) | weekly(weekly)
+                            : parsed.getKey();
+
+                    final GameVersion known = VERSIONS.get(name);
+                    if (known == null || known.getType() != type || known.getKey() != k) {
+                        VERSIONS.compute(name, (n, old) -> new GameVersion(n, type, k, old != null ? old.ordinal() : NEXT.getAndIncrement()));
+                        changed++;
+                    }
+                    if (type == RELEASE) newer = VERSIONS.get(name);
+                }
+            }
+            case CURSEFORGE -> {
+                for (JsonElement e : CURSEFORGE.getResponse("/minecraft/version", key).get("data").getAsJsonArray()) {
+                    final String name = e.getAsJsonObject().get("versionString").getAsString();
+                    if (!VERSIONS.containsKey(name)) {
+                        of(name);
+                        changed++;
+                    }
+                }
+            }
+            case SPIGET -> throw new IllegalArgumentException("Spiget does not provide game versions");
+        }
+        return changed;
+    }
+
+    /**
+     * @param series Series like "1.20"
+     * @return The smallest key of the series
+     */
+    static long series(final String series) {
+        final Matcher m = NUMBERED.matcher(series.trim());
+        if (!m.matches()) throw new IllegalArgumentException("Invalid series: " + series);
+        return (number(m.group(1), FIELD) << MAJOR) | (number(m.group(2), FIELD) << MINOR);
+    }
+
+    private static GameVersion parse(final String name, final int ordinal) {
+        final String s = name.toLowerCase(Locale.ROOT).trim();
+
+        final Matcher weekly = WEEKLY.matcher(s);
+        if (weekly.matches()) return new GameVersion(name, SNAPSHOT, weekly(weekly), ordinal);
+
+        final Matcher old = OLD.matcher(s);
+        if (old.matches()) {
+            final ReleaseType type = old.group(1).equals("b") ? BETA : ALPHA;
+            final long k = ((ERAS.indexOf(old.group(1)) + 1L) << MINOR) | (number(old.group(2), BUILD) << 18)
+                    | (number(old.group(3), PART) << 9) | number(old.group(4), PART);
+            return new GameVersion(name, type, k, ordinal);
+        }
+
+        final Matcher numbered = NUMBERED.matcher(s);
+        if (!numbered.matches()) return new GameVersion(name, SNAPSHOT, 0, ordinal);
+        final String suffix = numbered.group(4) != null ? numbered.group(4) : "";
+        final ReleaseType type;
+        final int stage;
+        if (suffix.isEmpty()) {
+            type = RELEASE;
+            stage = STAGE_RELEASE;
+        } else if (suffix.contains("rc")) {
+            type = RELEASE_CANDIDATE;
+            stage = STAGE_RELEASE_CANDIDATE;
+        } else if (suffix.contains("pre")) {
+            type = PRE_RELEASE;
+            stage = STAGE_PRE_RELEASE;
+        } else {
+            type = SNAPSHOT;
+            stage = STAGE_SNAPSHOT;
+        }
+        final long k = (number(numbered.group(1), FIELD) << MAJOR) | (number(numbered.group(2), FIELD) << MINOR)
+                | (number(numbered.group(3), FIELD) << PATCH) | ((long) stage << STAGE) | number(trailing(suffix), NUMBER);
+        return new GameVersion(name, type, k, ordinal);
+    }
+
+    /**
+     * Weekly snapshots are numbered by year, week and letter, so they keep their order whether the release they lead to is known or not
+     */
+    private static long weekly(final Matcher m) {
+        final long letter = m.group(3).isEmpty() ? 0 : m.group(3).charAt(0) - 'a' + 1;
+        return ((long) STAGE_SNAPSHOT << STAGE) | ((number(m.group(1), 99) * 53 + number(m.group(2), 52)) * 27 + letter);
+    }
+
+    private static @Nullable String trailing(final String suffix) {
+        int i = suffix.length();
+        while (i > 0 && Character.isDigit(suffix.charAt(i - 1))) i--;
+        return i < suffix.length() ? suffix.substring(i) : null;
+    }
+
+    private static long number(final @Nullable String digits, final long max) {
+        if (digits == null) return 0;
+        if (digits.length() > 9) return max;
+        return Math.min(Long.parseLong(digits), max);
+    }
+}
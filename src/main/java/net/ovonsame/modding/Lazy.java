@@ -0,0 +1,39 @@
+package net.ovonsame.modding;
+
+import net.ovonsame.modding.enumeration.Platform;
+
+import java.io.IOException;
+
+/**
+ * Class {@code Lazy} is a thread-safe memoized value which is computed on the first access.
+ * The call is performed at most once at a time, and only a successful result is kept, so a failed call is repeated on the next access
+ * @param <T> Type of the value
+ */
+final class Lazy<T> {
+    private final Platform.Call<T> call;
+    private volatile T value;
+
+    Lazy(final Platform.Call<T> call) {
+        this.call = call;
+    }
+
+    /**
+     * @param value Value which is already known
+     * @return Lazy value which never performs a call
+     */
+    static <T> Lazy<T> of(final T value) {
+        final Lazy<T> lazy = new Lazy<>(() -> value);
+        lazy.value = value;
+        return lazy;
+    }
+
+    T get() throws IOException {
+        T v = value;
+        if (v != null) return v;
+        synchronized (this) {
+            v = value;
+            if (v == null) value = v = call.call();
+            return v;
+        }
+    }
+}
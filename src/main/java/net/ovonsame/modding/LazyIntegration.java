@@ -1,10 +1,35 @@
 package net.ovonsame.modding;
 
 import net.ovonsame.modding.enumeration.Platform;
+import net.ovonsame.modding.interfaces.Integration;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 /**
  * Record class with {@code Platform} and {@code String} id required in constructor. Designed to store general information about integration and further retrieval of complete information
  * @param platform Platform of the integration
  * @param identifier Identifier of the integration
  */
-public record LazyIntegration(Platform platform, String identifier) {}
+public record LazyIntegration(Platform platform, String identifier) {
+    /**
+     * Retrieves complete information about the integration without blocking
+     * @param key Optional key which is required for some platforms
+     * @param executor Executor to send the requests on
+     * @return Future of the integration
+     * @see Modding#getIntegrationAsync(LazyIntegration, String, Executor)
+     */
+    public CompletableFuture<Integration> resolveAsync(final @Nullable String key, final Executor executor) {
+        return Modding.getIntegrationAsync(this, key, executor);
+    }
+
+    /**
+     * Retrieves complete information about the integration without blocking using {@link Platform#getDefaultExecutor()}
+     * @param key Optional key which is required for some platforms
+     * @return Future of the integration
+     */
+    public CompletableFuture<Integration> resolveAsync(final @Nullable String key) {
+        return resolveAsync(key, Platform.getDefaultExecutor());
+    }
+}
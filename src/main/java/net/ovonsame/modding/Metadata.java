@@ -0,0 +1,93 @@
+package net.ovonsame.modding;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import net.ovonsame.modding.enumeration.Edition;
+import net.ovonsame.modding.enumeration.IntegrationType;
+import net.ovonsame.modding.enumeration.Status;
+import org.jetbrains.annotations.Nullable;
+
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.time.Instant;
+import java.util.Date;
+
+/**
+ * Record class {@code Metadata} contains the data of an integration decoded once from the response of a platform, so getters of wrappers are field reads
+ * @param id Identifier of the integration
+ * @param slug Slug of the integration
+ * @param title Title of the integration
+ * @param type Type of the integration
+ * @param status Status of the integration
+ * @param edition Edition of the integration
+ * @param license License of the integration
+ * @param published Time of publishing in milliseconds
+ * @param updated Time of the last update in milliseconds
+ * @param approved Time of approval in milliseconds or {@link #NONE}
+ * @param downloads Number of downloads
+ * @param likes Number of likes or followers
+ * @param icon Icon of the integration
+ * @param issues Issue tracker of the integration
+ * @param wiki Wiki of the integration
+ * @param source Source code of the integration
+ * @param donation Donation page of the integration
+ * @param categories Categories of the integration
+ * @param screenshots Screenshots of the integration, which must not be exposed without copying
+ */
+record Metadata(String id, String slug, String title, IntegrationType type, Status status, Edition edition, String license,
+                long published, long updated, long approved, int downloads, int likes,
+                @Nullable URL icon, @Nullable URL issues, @Nullable URL wiki, @Nullable URL source, @Nullable URL donation,
+                CategorySet categories, URL[] screenshots) {
+    /**
+     * Time which is not provided by the platform
+     */
+    static final long NONE = Long.MIN_VALUE;
+
+    Date getPublished() {
+        return new Date(published);
+    }
+
+    Date getUpdated() {
+        return new Date(updated);
+    }
+
+    @Nullable Date getApproved() {
+        return approved == NONE ? null : new Date(approved);
+    }
+
+    URL[] getScreenshots() {
+        return screenshots.clone();
+    }
+
+    /**
+     * @param object Object of the response
+     * @param member Member with an ISO-8601 time
+     * @return Time in milliseconds or {@link #NONE} if the member is missing or null
+     */
+    static long time(final JsonObject object, final String member) {
+        final JsonElement e = object.get(member);
+        return e == null || e.isJsonNull() ? NONE : Instant.parse(e.getAsString()).toEpochMilli();
+    }
+
+    /**
+     * @param element Element with a URL or null
+     * @return URL or null if the element is missing, empty or malformed
+     */
+    static @Nullable URL url(final @Nullable JsonElement element) {
+        if (element == null || element.isJsonNull()) return null;
+        return url(element.getAsString());
+    }
+
+    /**
+     * @param url URL or null
+     * @return URL or null if the string is missing, empty or malformed
+     */
+    static @Nullable URL url(final @Nullable String url) {
+        if (url == null || url.isEmpty()) return null;
+        try {
+            return new URL(url);
+        } catch (MalformedURLException e) {
+            return null;
+        }
+    }
+}
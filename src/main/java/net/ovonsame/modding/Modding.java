@@ -3,16 +3,21 @@ package net.ovonsame.modding;
 import com.google.gson.*;
 
 import java.io.*;
-import java.net.MalformedURLException;
 import java.net.URL;
-import java.time.Instant;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 
+import net.ovonsame.modding.cache.MemoryCache;
 import net.ovonsame.modding.enumeration.*;
-import net.ovonsame.modding.enumeration.category.*;
 import net.ovonsame.modding.enumeration.loader.*;
 import net.ovonsame.modding.interfaces.*;
 import net.ovonsame.modding.interfaces.authority.Author;
+import net.ovonsame.modding.network.NotFoundException;
 import org.jetbrains.annotations.*;
 
 import static net.ovonsame.modding.enumeration.Status.*;
@@ -27,6 +32,35 @@ import static net.ovonsame.modding.enumeration.Edition.*;
  * @see Integration
  */
 public final class Modding {
+    private static final MemoryCache<Key, Integration> CACHE = new MemoryCache<>(256, Duration.ofMinutes(30));
+    private static volatile int pageSize = 50;
+
+    /**
+     * @return Number of files requested at once by paged file listings
+     */
+    public static int getPageSize() {
+        return pageSize;
+    }
+
+    /**
+     * Changes the number of files requested at once by file listings of integrations created later. CurseForge does not return more than 50 files per page
+     * @param size Number of files in a page
+     */
+    public static void setPageSize(final int size) {
+        if (size <= 0) throw new IllegalArgumentException("Page size must be positive");
+        pageSize = size;
+    }
+
+    /**
+     * Every integration is stored in the cache by the requested identifier and by its own identifier,
+     * so the integration requested by slug is also found by dependencies which refer to it by identifier.
+     * Integrations are also cached per API key, so an integration built with one key is never returned to a caller with another key
+     * @return Process-wide cache of resolved integrations
+     */
+    public static MemoryCache<?, Integration> getCache() {
+        return CACHE;
+    }
+
     /**
      * Method ables you to get any integration from any supported platform and work with it
      * @param platform Platform to get the integration from
@@ -39,11 +73,7 @@ public final class Modding {
      * @see Platform
      */
     public static Integration getIntegration(final Platform platform, final String identifier, final @Nullable String key) throws IOException {
-        return switch (platform) {
-            case CURSEFORGE -> new CurseforgeWrapper(identifier, key);
-            case MODRINTH -> new ModrinthWrapper(identifier, key);
-            case SPIGET -> new SpigetWrapper(identifier, key);
-        };
+        return Platform.join(getIntegrationAsync(platform, identifier, key));
     }
 
     /**
@@ -60,26 +90,356 @@ public final class Modding {
         return getIntegration(i.platform(), i.identifier(), key);
     }
 
+    /**
+     * Asynchronous version of {@link #getIntegration(Platform, String, String)}. Independent requests of the integration are sent concurrently
+     * @param platform Platform to get the integration from
+     * @param identifier Identifier of the integration
+     * @param key Optional key which is required for some platforms
+     * @param executor Executor to send the requests on
+     * @return Future of the integration which completes exceptionally with {@code IOException} if the integration can not be fetched
+     * @see #getIntegration(Platform, String, String)
+     */
+    public static CompletableFuture<Integration> getIntegrationAsync(final Platform platform, final String identifier, final @Nullable String key, final Executor executor) {
+        final LazyIntegration lazy = new LazyIntegration(platform, identifier);
+        final Integration cached = CACHE.get(new Key(lazy, key));
+        if (cached != null) return CompletableFuture.completedFuture(cached);
+
+        return (switch (platform) {
+            case CURSEFORGE -> CurseforgeWrapper.fetch(identifier, key, executor);
+            case MODRINTH -> ModrinthWrapper.fetch(identifier, key, executor);
+            case SPIGET -> SpigetWrapper.fetch(identifier, key, executor);
+        }).thenApply(i -> {
+            CACHE.put(new Key(lazy, key), i);
+            if (!identifier.equals(i.getId())) CACHE.put(new Key(new LazyIntegration(platform, i.getId()), key), i);
+            return i;
+        });
+    }
+
+    /**
+     * Asynchronous version of {@link #getIntegration(Platform, String, String)} which uses {@link Platform#getDefaultExecutor()}
+     * @param platform Platform to get the integration from
+     * @param identifier Identifier of the integration
+     * @param key Optional key which is required for some platforms
+     * @return Future of the integration
+     */
+    public static CompletableFuture<Integration> getIntegrationAsync(final Platform platform, final String identifier, final @Nullable String key) {
+        return getIntegrationAsync(platform, identifier, key, Platform.getDefaultExecutor());
+    }
+
+    /**
+     * @param i Lazy Integration
+     * @param key Optional key which is required for some platforms
+     * @param executor Executor to send the requests on
+     * @return Future of the integration
+     * @see LazyIntegration#resolveAsync(String, Executor)
+     */
+    public static CompletableFuture<Integration> getIntegrationAsync(final LazyIntegration i, final @Nullable String key, final Executor executor) {
+        return getIntegrationAsync(i.platform(), i.identifier(), key, executor);
+    }
+
+    /**
+     * Number of identifiers sent in one bulk request
+     */
+    private static final int BATCH = 100;
+
+    private record Key(LazyIntegration integration, @Nullable String key) {}
+
+    /**
+     * Resolves many integrations at once. Integrations are grouped by platform, and bulk endpoints are used where the platform has them:
+     * CurseForge {@code POST /mods} and Modrinth {@code /projects}, {@code /versions} and {@code /teams}. Platforms are resolved concurrently.
+     * Every chunk of a bulk endpoint and every single request is submitted to the executor as one task, which sends its requests in sequence
+     * and never waits for other tasks. They are waited for on the calling thread, so a bounded executor can not deadlock
+     * @param integrations Lazy integrations to resolve
+     * @param key Optional key which is required for some platforms
+     * @param executor Executor to send the requests on
+     * @return Resolved integrations and errors of the ones which can not be resolved
+     */
+    public static BatchResult getIntegrations(final Collection<LazyIntegration> integrations, final @Nullable String key, final Executor executor) {
+        final Map<LazyIntegration, Integration> resolved = new ConcurrentHashMap<>();
+        final Map<LazyIntegration, IOException> failures = new ConcurrentHashMap<>();
+        final EnumMap<Platform, List<LazyIntegration>> groups = new EnumMap<>(Platform.class);
+
+        for (LazyIntegration i : new LinkedHashSet<>(integrations)) {
+            final Integration cached = CACHE.get(new Key(i, key));
+            if (cached != null) resolved.put(i, cached);
+            else groups.computeIfAbsent(i.platform(), p -> new ArrayList<>()).add(i);
+        }
+
+        final Map<Platform, CompletableFuture<Void>> futures = new EnumMap<>(Platform.class);
+        groups.forEach((platform, list) -> {
+            try {
+                futures.put(platform, switch (platform) {
+                    case CURSEFORGE -> CurseforgeWrapper.fetchAll(list, key, executor, resolved, failures);
+                    case MODRINTH -> ModrinthWrapper.fetchAll(list, key, executor, resolved, failures);
+                    case SPIGET -> fetchEach(list, key, executor, resolved, failures);
+                });
+            } catch (RuntimeException e) {
+                futures.put(platform, CompletableFuture.failedFuture(e));
+            }
+        });
+        futures.forEach((platform, future) -> {
+            try {
+                Platform.join(future);
+            } catch (IOException | RuntimeException e) {
+                final IOException error = e instanceof IOException io ? io : new IOException("Integrations of " + platform + " can not be resolved", e);
+                for (LazyIntegration i : groups.get(platform)) {
+                    if (!resolved.containsKey(i)) failures.putIfAbsent(i, error);
+                }
+            }
+        });
+
+        resolved.forEach((lazy, i) -> {
+            CACHE.put(new Key(lazy, key), i);
+            CACHE.put(new Key(new LazyIntegration(lazy.platform(), i.getId()), key), i);
+        });
+        return new BatchResult(resolved, failures);
+    }
+
+    /**
+     * Resolves many integrations at once on {@link Platform#getDefaultExecutor()}
+     * @param integrations Lazy integrations to resolve
+     * @param key Optional key which is required for some platforms
+     * @return Resolved integrations and errors of the ones which can not be resolved
+     * @see #getIntegrations(Collection, String, Executor)
+     */
+    public static BatchResult getIntegrations(final Collection<LazyIntegration> integrations, final @Nullable String key) {
+        return getIntegrations(integrations, key, Platform.getDefaultExecutor());
+    }
+
+    /**
+     * Resolves integrations of a platform without bulk endpoints concurrently one by one
+     * @return Future which completes when all integrations are resolved or failed
+     */
+    private static CompletableFuture<Void> fetchEach(final List<LazyIntegration> list, final @Nullable String key, final Executor executor,
+                                                     final Map<LazyIntegration, Integration> resolved, final Map<LazyIntegration, IOException> failures) {
+        final List<CompletableFuture<?>> futures = new ArrayList<>(list.size());
+        for (LazyIntegration i : list) {
+            final CompletableFuture<Integration> future = getIntegrationAsync(i, key, executor);
+            futures.add(future.handle((integration, e) -> {
+                if (e == null) {
+                    resolved.put(i, integration);
+                    return null;
+                }
+                try {
+                    Platform.join(future);
+                } catch (IOException ex) {
+                    failures.put(i, ex);
+                } catch (RuntimeException ex) {
+                    failures.put(i, new IOException(ex));
+                }
+                return null;
+            }));
+        }
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0]));
+    }
+
+    private static String ids(final Collection<String> ids) {
+        final JsonArray array = new JsonArray(ids.size());
+        ids.forEach(array::add);
+        return URLEncoder.encode(array.toString(), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Performs the calls in parallel on the executor and waits for all of them
+     * @throws IOException The first failure of the calls
+     */
+    private static void prefetch(final List<Platform.Call<?>> calls, final Executor executor) throws IOException {
+        if (calls.isEmpty()) return;
+        if (calls.size() == 1) {
+            calls.getFirst().call();
+            return;
+        }
+        final List<CompletableFuture<?>> futures = new ArrayList<>(calls.size());
+        for (Platform.Call<?> call : calls) futures.add(Platform.supplyAsync(call, executor));
+        for (CompletableFuture<?> future : futures) Platform.join(future);
+    }
+
+    private static <T> List<List<T>> chunks(final List<T> list) {
+        final List<List<T>> chunks = new ArrayList<>();
+        for (int i = 0; i < list.size(); i += BATCH) chunks.add(list.subList(i, Math.min(list.size(), i + BATCH)));
+        return chunks;
+    }
+
+    /**
+     * @param classId Identifier of a CurseForge class
+     * @return Type of the integrations of the class
+     */
+    static IntegrationType classType(final int classId) {
+        return switch (classId) {
+            case 6, 4984 -> MOD;
+            case 5 -> PLUGIN;
+            case 12, 6929 -> RESOURCEPACK;
+            case 17, 6913 -> WORLD;
+            case 4546, 6925 -> CUSTOMIZATION;
+            case 4471 -> MODPACK;
+            case 4559 -> ADDON;
+            case 6552 -> SHADER;
+            case 6945, 6940 -> DATAPACK;
+            default -> MOD;
+        };
+    }
+
     private static final class ModrinthWrapper extends Wrapper implements Integration {
         private final JsonObject data;
-        private final JsonArray versions;
-        private final JsonArray authors;
+        private final Metadata meta;
+        private final Lazy<JsonArray> versions;
+        private final Lazy<JsonArray> authors;
+        private final Lazy<Set<Author>> team = new Lazy<>(this::fetchAuthors);
+        private final Lazy<FileTable> files = new Lazy<>(this::decodeFiles);
+        private final Lazy<FileIndex> index = new Lazy<>(() -> FileIndex.of(getFiles()));
+        private final Executor executor;
 
-        public ModrinthWrapper(final String modid, final @Nullable String key) throws IOException {
+        /**
+         * Versions and members are fetched on first access
+         */
+        private ModrinthWrapper(final String modid, final @Nullable String key, final JsonObject data, final Executor executor) {
             super(modid, key);
-            data = MODRINTH.getResponse("/project/" + modid, key);
-            versions = MODRINTH.getResponseArray("/project/" + modid + "/version", key);
-            authors = MODRINTH.getResponseArray("/team/" + data.get("team").getAsString() + "/members", key);
+            this.data = data;
+            this.executor = executor;
+            this.meta = decode(data);
+            this.versions = new Lazy<>(() -> MODRINTH.getResponseArray("/project/" + getId() + "/version", key));
+            this.authors = new Lazy<>(() -> MODRINTH.getResponseArray("/project/" + getId() + "/members", key));
+        }
+
+        /**
+         * Members are fetched on first access if they are not given, for example when {@code /teams} has no entry of the team
+         */
+        private ModrinthWrapper(final String modid, final @Nullable String key, final JsonObject data, final JsonArray versions, final @Nullable JsonArray authors,
+                                final Executor executor) {
+            super(modid, key);
+            this.data = data;
+            this.executor = executor;
+            this.meta = decode(data);
+            this.versions = Lazy.of(versions);
+            this.authors = authors != null ? Lazy.of(authors) : new Lazy<>(() -> MODRINTH.getResponseArray("/project/" + getId() + "/members", key));
+        }
+
+        private static CompletableFuture<Integration> fetch(final String modid, final @Nullable String key, final Executor executor) {
+            return MODRINTH.getResponseAsync("/project/" + modid, key, executor).thenApply(d -> new ModrinthWrapper(modid, key, d, executor));
+        }
+
+        /**
+         * The description is a part of the project, so only versions and members can be fetched
+         */
+        @Override
+        public void prefetch(final EnumSet<Part> parts) throws IOException {
+            final List<Platform.Call<?>> calls = new ArrayList<>();
+            if (parts.contains(Part.VERSIONS)) calls.add(files::get);
+            if (parts.contains(Part.TEAM)) calls.add(authors::get);
+            Modding.prefetch(calls, executor);
+        }
+
+        /**
+         * Resolves projects with {@code /projects}, their versions with {@code /versions} and their members with {@code /teams}.
+         * A project is matched to the requested identifier by its identifier or slug
+         */
+        private static CompletableFuture<Void> fetchAll(final List<LazyIntegration> list, final @Nullable String key, final Executor executor,
+                                                        final Map<LazyIntegration, Integration> resolved, final Map<LazyIntegration, IOException> failures) {
+            final List<CompletableFuture<?>> futures = new ArrayList<>();
+            for (List<LazyIntegration> chunk : chunks(list)) futures.add(CompletableFuture.runAsync(() -> fetchChunk(chunk, key, executor, resolved, failures), executor));
+            return CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0]));
+        }
+
+        private static void fetchChunk(final List<LazyIntegration> chunk, final @Nullable String key, final Executor executor,
+                                       final Map<LazyIntegration, Integration> resolved, final Map<LazyIntegration, IOException> failures) {
+            try {
+                final JsonArray projects = MODRINTH.getResponseArray("/projects?ids=" + ids(chunk.stream().map(LazyIntegration::identifier).toList()), key);
+
+                final List<String> versionIds = new ArrayList<>();
+                final List<String> teamIds = new ArrayList<>();
+                for (JsonElement p : projects) {
+                    p.getAsJsonObject().get("versions").getAsJsonArray().forEach(v -> versionIds.add(v.getAsString()));
+                    teamIds.add(p.getAsJsonObject().get("team").getAsString());
+                }
+
+                final Map<String, List<JsonObject>> versions = new HashMap<>();
+                for (List<String> ids : chunks(versionIds)) {
+                    for (JsonElement v : MODRINTH.getResponseArray("/versions?ids=" + ids(ids), key)) {
+                        versions.computeIfAbsent(v.getAsJsonObject().get("project_id").getAsString(), k -> new ArrayList<>()).add(v.getAsJsonObject());
+                    }
+                }
+
+                final Map<String, JsonArray> teams = new HashMap<>();
+                for (List<String> ids : chunks(teamIds)) {
+                    for (JsonElement t : MODRINTH.getResponseArray("/teams?ids=" + ids(ids), key)) {
+                        final JsonArray members = t.getAsJsonArray();
+                        if (!members.isEmpty()) teams.put(members.get(0).getAsJsonObject().get("team_id").getAsString(), members);
+                    }
+                }
+
+                for (JsonElement p : projects) {
+                    final JsonObject project = p.getAsJsonObject();
+                    final String id = project.get("id").getAsString();
+                    final String slug = project.get("slug").getAsString();
+
+                    final List<JsonObject> own = versions.getOrDefault(id, List.of());
+                    final JsonArray sorted = new JsonArray(own.size());
+                    own.stream()
+                            .sorted(Comparator.comparing((JsonObject v) -> v.get("date_published").getAsString()).reversed())
+                            .forEach(sorted::add);
+
+                    final JsonArray members = teams.get(project.get("team").getAsString());
+                    for (LazyIntegration i : chunk) {
+                        if (i.identifier().equals(id) || i.identifier().equalsIgnoreCase(slug)) {
+                            resolved.put(i, new ModrinthWrapper(i.identifier(), key, project, sorted, members, executor));
+                        }
+                    }
+                }
+                for (LazyIntegration i : chunk) {
+                    if (!resolved.containsKey(i)) failures.put(i, new NotFoundException(MODRINTH, "/project/" + i.identifier(), 404));
+                }
+            } catch (IOException e) {
+                chunk.forEach(i -> failures.put(i, e));
+            } catch (RuntimeException e) {
+                chunk.forEach(i -> failures.put(i, new IOException("Malformed response of Modrinth", e)));
+            }
+        }
+
+        private static Metadata decode(final JsonObject data) {
+            final IntegrationType type = IntegrationType.valueOf(data.get("project_type").getAsString().toUpperCase());
+            Status status;
+            try {
+                status = Status.valueOf(data.get("status").getAsString().toUpperCase());
+            } catch (IllegalArgumentException e) {
+                status = Status.UNKNOWN;
+            }
+
+            final JsonArray donations = data.get("donation_urls").getAsJsonArray();
+            final List<URL> screenshots = new ArrayList<>();
+            for (JsonElement g : data.get("gallery").getAsJsonArray()) {
+                final URL u = Metadata.url(g.getAsJsonObject().get("url"));
+                if (u != null) screenshots.add(u);
+            }
+
+            return new Metadata(
+                    data.get("id").getAsString(),
+                    data.get("slug").getAsString(),
+                    data.get("title").getAsString(),
+                    type, status, JAVA,
+                    data.get("license").getAsJsonObject().get("id").getAsString(),
+                    Metadata.time(data, "published"),
+                    Metadata.time(data, "updated"),
+                    Metadata.time(data, "approved"),
+                    data.get("downloads").getAsInt(),
+                    data.get("followers").getAsInt(),
+                    Metadata.url(data.get("icon_url")),
+                    Metadata.url(data.get("issues_url")),
+                    Metadata.url(data.get("wiki_url")),
+                    Metadata.url(data.get("source_url")),
+                    donations.isEmpty() ? null : Metadata.url(donations.get(0).getAsJsonObject().get("url")),
+                    decodeCategories(data.get("categories").getAsJsonArray(), type),
+                    screenshots.toArray(new URL[0])
+            );
         }
 
         @Override
         public String getTitle() {
-            return data.get("title").getAsString();
+            return meta.title();
         }
 
         @Override
         public String getSlug() {
-            return data.get("slug").getAsString();
+            return meta.slug();
         }
 
         @Override
@@ -89,433 +449,374 @@ public final class Modding {
 
         @Override
         public IntegrationType getType() {
-            return IntegrationType.valueOf(data.get("project_type").getAsString().toUpperCase());
+            return meta.type();
         }
 
         @Override
         public String getId() {
-            return data.get("id").getAsString();
+            return meta.id();
         }
 
         @Override
         public String getLicense() {
-            return data.get("license").getAsJsonObject().get("id").getAsString();
+            return meta.license();
         }
 
         @Override
         public Edition getEdition() {
-            return JAVA;
+            return meta.edition();
         }
 
         @Override
         public Date getPublished() {
-            return Date.from(Instant.parse(data.get("published").getAsString()));
+            return meta.getPublished();
         }
 
         @Override
         public Date getUpdated() {
-            return Date.from(Instant.parse(data.get("updated").getAsString()));
+            return meta.getUpdated();
         }
 
         @Override @Nullable
         public Date getApproved() {
-            return data.has("approved") ? Date.from(Instant.parse(data.get("approved").getAsString())) : null;
+            return meta.getApproved();
         }
 
         @Override
         public Status getStatus() {
-            final String s = data.get("status").getAsString();
-            try {
-                return Status.valueOf(s.toUpperCase());
-            } catch (IllegalArgumentException e) {
-                return Status.UNKNOWN;
-            }
+            return meta.status();
         }
 
         @Override
         public int getDownloads() {
-            return data.get("downloads").getAsInt();
+            return meta.downloads();
         }
 
         @Override
         public int getLikes() {
-            return data.get("followers").getAsInt();
+            return meta.likes();
         }
 
         @Override @Nullable
         public URL getIcon() {
-            try {
-                final String i = data.get("icon_url").getAsString();
-                if (i == null || i.isEmpty()) return null;
-                return new URL(i);
-            } catch (MalformedURLException | UnsupportedOperationException | NullPointerException e) {
-                return null;
-            }
+            return meta.icon();
         }
 
         @Override @Nullable
         public URL getDonation() {
-            try {
-                final String d = data.get("donation_urls").getAsJsonArray().get(0).getAsJsonObject().get("url").getAsString();
-                if (d == null || d.isEmpty()) return null;
-                return new URL(d);
-            } catch (MalformedURLException | UnsupportedOperationException | NullPointerException | IndexOutOfBoundsException e) {
-                return null;
-            }
+            return meta.donation();
         }
 
         @Override @Nullable
         public URL getIssues() {
-            try {
-                final String i = data.get("issues_url").getAsString();
-                if (i == null || i.isEmpty()) return null;
-                return new URL(i);
-            } catch (MalformedURLException | UnsupportedOperationException | NullPointerException e) {
-                return null;
-            }
+            return meta.issues();
         }
 
         @Override @Nullable
         public URL getWiki() {
-            try {
-                final String w = data.get("wiki_url").getAsString();
-                if (w == null || w.isEmpty()) return null;
-                return new URL(w);
-            } catch (MalformedURLException | UnsupportedOperationException | NullPointerException e) {
-                return null;
-            }
+            return meta.wiki();
         }
 
         @Override @Nullable
         public URL getSource() {
-            try {
-                final String s = data.get("source_url").getAsString();
-                if (s == null || s.isEmpty()) return null;
-                return new URL(s);
-            } catch (MalformedURLException | UnsupportedOperationException | NullPointerException e) {
-                return null;
-            }
+            return meta.source();
         }
 
+        /**
+         * Members embed their users, so authors are created without requests
+         */
         @Override
         public Set<Author> getAuthors() {
             try {
-                Author owner = null;
-                final Set<Author> set = new HashSet<>(authors.size());
-                final Set<Author> members = new HashSet<>(authors.size());
-
-                for (JsonElement m : authors) {
-                    final JsonObject object = m.getAsJsonObject().get("user").getAsJsonObject();
-                    final Author a = Authority.getAuthor(getPlatform(), object.get("username").getAsString(), key);
-                    if(m.getAsJsonObject().has("role") && m.getAsJsonObject().get("role").getAsString().equalsIgnoreCase("author")) owner = a;
-                    else members.add(a);
-                }
-
-                if(owner != null) set.add(owner);
-                set.addAll(members);
-                return set;
+                return team.get();
             } catch (Exception e) {
                 return Collections.emptySet();
             }
         }
 
         @Override
-        public Set<ICategory> getCategories() {
-            final JsonArray categories = data.get("categories").getAsJsonArray();
-            final Set<ICategory> set = new HashSet<>();
-            for (JsonElement c : categories) {
-                String s = c.getAsString();
-                ICategory t = switch (getType()) {
-                    case MOD -> switch (s) {
-                        case "adventure" -> ModCategory.RPG;
-                        case "game-mechanics", "minigame" -> ModCategory.MISCELLANEOUS;
-                        case "decoration" -> ModCategory.COSMETIC;
-                        case "economy" -> ModCategory.EDUCATION;
-                        case "equipment" -> ModCategory.EQUIPMENT;
-                        case "food" -> ModCategory.FOOD;
-                        case "library" -> ModCategory.LIBRARY;
-                        case "magic" -> ModCategory.MAGIC;
-                        case "management", "utility" -> ModCategory.UTILITIES;
-                        case "mobs" -> ModCategory.MOBS;
-                        case "optimization" -> ModCategory.PERFORMANCE;
-                        case "social" -> ModCategory.INFORMATION;
-                        case "storage" -> ModCategory.STORAGE;
-                        case "technology" -> ModCategory.TECHNOLOGY;
-                        case "transportation" -> ModCategory.TRANSPORTATION;
-                        case "worldgen" -> ModCategory.WORLD_GEN;
-                        case "cursed" -> ModCategory.CURSED;
-                        default -> null;
-                    };
-
-                    case RESOURCEPACK -> switch (s) {
-                        case "128x" -> ResourcepackCategory.RES_128X;
-                        case "256x" -> ResourcepackCategory.RES_256X;
-                        case "512x+" -> ResourcepackCategory.RES_512X;
-                        case "16x" -> ResourcepackCategory.RES_16X;
-                        case "32x" -> ResourcepackCategory.RES_32X;
-                        case "64x" -> ResourcepackCategory.RES_64X;
-                        case "8x-" -> ResourcepackCategory.RES_8X;
-                        case "48x" -> ResourcepackCategory.RES_48X;
-                        case "animated" -> ResourcepackCategory.ANIMATED;
-                        case "traditional", "audio", "blocks", "combat", "core-shaders",
-                             "decoration", "entities","environment", "equipment", "gui",
-                             "items", "locale", "models" -> ResourcepackCategory.TRADITIONAL;
-                        case "realistic" -> ResourcepackCategory.REALISTIC;
-                        case "simplistic" -> ResourcepackCategory.SIMPLISTIC;
-                        case "themed" -> ResourcepackCategory.THEMED;
-                        case "miscellaneous", "tweaks", "utility" -> ResourcepackCategory.MISCELLANEOUS;
-                        case "fonts" -> ResourcepackCategory.FONT_PACKS;
-                        case "modded" -> ResourcepackCategory.MOD_SUPPORT;
-                        case "cursed" -> ResourcepackCategory.CURSED;
-                        case "vanilla-like" -> ResourcepackCategory.VANILLA;
-                        default -> null;
-                    };
-
-                    case SHADER -> switch (s) {
-                        case "realistic", "atmosphere" -> ShaderCategory.REALISTIC;
-                        case "fantasy" -> ShaderCategory.FANTASY;
-                        case "shadows" -> ShaderCategory.SHADOWS;
-                        case "screenshot", "potato" -> ShaderCategory.PERFORMANCE;
-                        case "vanilla-like" -> ShaderCategory.VANILLA;
-                        case "reflections", "pbr", "path-tracing", "foliage", "colored-lighting", "bloom" -> ShaderCategory.FEATURE;
-                        case "medium" -> ShaderCategory.MEDIUM;
-                        case "low" -> ShaderCategory.LOW;
-                        case "semi_realistic" -> ShaderCategory.SEMI_REALISTIC;
-                        case "high" -> ShaderCategory.HIGH;
-                        case "cursed", "cartoon" -> ShaderCategory.CURSED;
-                        default -> null;
-                    };
-
-                    case MODPACK -> switch (s) {
-                        case "adventure" -> ModpackCategory.RPG;
-                        case "challenging" -> ModpackCategory.HARDCORE;
-                        case "combat" -> ModpackCategory.COMBAT;
-                        case "kitchen-sink" -> ModCategory.MISCELLANEOUS;
-                        case "lightweight" -> ModpackCategory.SMALL;
-                        case "magic" -> ModpackCategory.MAGIC;
-                        case "multiplayer" -> ModpackCategory.MULTIPLAYER;
-                        case "optimization" -> ModpackCategory.VANILLA_PLUS;
-                        case "quests" -> ModpackCategory.QUESTS;
-                        case "technology" -> ModpackCategory.TECH;
-                        default -> null;
-                    };
+        public Set<String> getAuthorIds() {
+            final JsonArray authors;
+            try {
+                authors = this.authors.get();
+            } catch (IOException e) {
+                return Collections.emptySet();
+            }
 
-                    default -> null;
-                };
-                if (t != null) set.add(t);
+            String owner = null;
+            final Set<String> members = new LinkedHashSet<>(authors.size());
+            for (JsonElement m : authors) {
+                final String id = m.getAsJsonObject().get("user").getAsJsonObject().get("id").getAsString();
+                if(m.getAsJsonObject().has("role") && m.getAsJsonObject().get("role").getAsString().equalsIgnoreCase("author")) owner = id;
+                else members.add(id);
             }
-            return set;
+
+            final Set<String> ids = new LinkedHashSet<>(authors.size());
+            if(owner != null) ids.add(owner);
+            ids.addAll(members);
+            return Collections.unmodifiableSet(ids);
         }
 
-        @Override
-        public URL[] getScreenshots() {
-            final JsonArray gallery = data.get("gallery").getAsJsonArray();
-            final List<URL> urls = new ArrayList<>();
-            for (JsonElement g : gallery) {
-                try {
-                    final String u = g.getAsJsonObject().get("url").getAsString();
-                    if (u != null && !u.isEmpty()) {
-                        urls.add(new URL(u));
-                    }
-                } catch (MalformedURLException ignored) {}
+        private Set<Author> fetchAuthors() throws IOException {
+            final JsonArray authors = this.authors.get();
+            Author owner = null;
+            final Set<Author> members = new LinkedHashSet<>(authors.size());
+
+            for (JsonElement m : authors) {
+                final Author a = Authority.of(getPlatform(), m.getAsJsonObject().get("user").getAsJsonObject(), key);
+                if(m.getAsJsonObject().has("role") && m.getAsJsonObject().get("role").getAsString().equalsIgnoreCase("author")) owner = a;
+                else members.add(a);
             }
-            return urls.toArray(new URL[0]);
+
+            final Set<Author> set = new LinkedHashSet<>(authors.size());
+            if(owner != null) set.add(owner);
+            set.addAll(members);
+            return Collections.unmodifiableSet(set);
         }
 
         @Override @Unmodifiable
-        public Collection<IntegrationFile> getFiles() {
-            final List<IntegrationFile> fileList = new ArrayList<>();
-            for (int i = 0; i < versions.size(); i++) {
-                final JsonObject ver = versions.get(i).getAsJsonObject();
-                final JsonArray fileArray = ver.get("files").getAsJsonArray();
-                JsonObject pref = null;
-                for (JsonElement f : fileArray) {
-                    JsonObject fo = f.getAsJsonObject();
-                    if (fo.get("primary").getAsBoolean()) {
-                        pref = fo;
-                        break;
-                    }
-                }
-                if (pref == null && !fileArray.isEmpty()) {
-                    pref = fileArray.get(0).getAsJsonObject();
-                }
-                if (pref == null) continue;
-                final JsonObject pf = pref;
-                final Integration parent = this;
-                final IntegrationType type = getType();
-                fileList.add(new IntegrationFile() {
+        public Set<ICategory> getCategories() {
+            return meta.categories();
+        }
 
-                    private Collection<IntegrationFile> dependencies = null;
+        private static CategorySet decodeCategories(final JsonArray categories, final IntegrationType type) {
+            final List<String> slugs = new ArrayList<>(categories.size());
+            for (JsonElement c : categories) slugs.add(c.getAsString());
+            return CategoryRegistry.decode(MODRINTH, type, slugs);
+        }
 
-                    @Override
-                    public IntegrationType getType() {
-                        return type;
-                    }
+        @Override
+        public URL[] getScreenshots() {
+            return meta.getScreenshots();
+        }
 
-                    @Override
-                    public Side getSide() {
-                        if(type == PLUGIN) return SERVER;
+        @Override @Unmodifiable
+        public Collection<IntegrationFile> getFiles() {
+            try {
+                return files.get();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
 
-                        final String s = data.get("server_side").getAsString();
-                        final String c = data.get("client_side").getAsString();
+        @Override
+        public FileIndex getFileIndex() {
+            try {
+                return index.get();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
 
-                        Side side = ANY;
-                        if(c.equals("unsupported") || c.equals("unknown")) side = SERVER;
-                        else if(s.equals("unsupported") || s.equals("unknown")) side = CLIENT;
+        private static Map<String, String> decodeHashes(final JsonObject file) {
+            final Map<String, String> hashes = new HashMap<>();
+            if (!file.has("hashes") || !file.get("hashes").isJsonObject()) return hashes;
+            final JsonObject object = file.get("hashes").getAsJsonObject();
+            if (object.has("sha512")) hashes.put("SHA-512", object.get("sha512").getAsString().toLowerCase(Locale.ROOT));
+            if (object.has("sha1")) hashes.put("SHA-1", object.get("sha1").getAsString().toLowerCase(Locale.ROOT));
+            return hashes;
+        }
 
-                        return side;
-                    }
+        /**
+         * Every version becomes a file with its primary file, or with the first one if none of them is primary
+         */
+        private FileTable decodeFiles() throws IOException {
+            final JsonArray versions = this.versions.get();
+            final IntegrationType type = getType();
 
-                    @Override
-                    public String getChangelog() {
-                        return ver.get("changelog").getAsString();
-                    }
+            Side side = ANY;
+            if(type == PLUGIN) side = SERVER;
+            else {
+                final String s = data.get("server_side").getAsString();
+                final String c = data.get("client_side").getAsString();
+                if(c.equals("unsupported") || c.equals("unknown")) side = SERVER;
+                else if(s.equals("unsupported") || s.equals("unknown")) side = CLIENT;
+            }
 
-                    @Override
-                    public String getFileName() {
-                        return pf.get("filename").getAsString();
+            final FileTable.Builder table = new FileTable.Builder(this, type, key, versions.size());
+            for (JsonElement v : versions) {
+                final JsonObject ver = v.getAsJsonObject();
+                final JsonArray fileArray = ver.get("files").getAsJsonArray();
+                JsonObject pf = null;
+                for (JsonElement f : fileArray) {
+                    if (f.getAsJsonObject().get("primary").getAsBoolean()) {
+                        pf = f.getAsJsonObject();
+                        break;
                     }
-
-                    @Override
-                    public URL getURL() {
-                        try {
-                            return new URL(pf.get("url").getAsString());
-                        } catch (MalformedURLException e) {
-                            return null;
-                        }
+                }
+                if (pf == null && !fileArray.isEmpty()) pf = fileArray.get(0).getAsJsonObject();
+                if (pf == null) continue;
+
+                final List<String> requires = new ArrayList<>();
+                final List<String> requiredFiles = new ArrayList<>();
+                for (JsonElement e : ver.get("dependencies").getAsJsonArray()) {
+                    final JsonObject d = e.getAsJsonObject();
+                    if (d.get("dependency_type").getAsString().equals("required") && d.has("project_id") && !d.get("project_id").isJsonNull()) {
+                        requires.add(d.get("project_id").getAsString());
+                        requiredFiles.add(d.has("version_id") && !d.get("version_id").isJsonNull() ? d.get("version_id").getAsString() : null);
                     }
+                }
 
-                    @Override
-                    public int getSize() {
-                        return pf.get("size").getAsInt();
-                    }
+                final JsonArray gameVersions = ver.get("game_versions").getAsJsonArray();
+                final String[] vs = new String[gameVersions.size()];
+                for (int k = 0; k < vs.length; k++) vs[k] = gameVersions.get(k).getAsString();
+
+                final JsonElement changelog = ver.get("changelog");
+                table.add(
+                        ver.get("id").getAsString(),
+                        pf.get("filename").getAsString(),
+                        Metadata.url(pf.get("url")),
+                        decodeHashes(pf),
+                        pf.get("size").getAsInt(),
+                        ver.get("downloads").getAsInt(),
+                        Metadata.time(ver, "date_published"),
+                        vs,
+                        VersionDecoder.loaders(ver.get("loaders").getAsJsonArray()),
+                        side,
+                        changelog == null || changelog.isJsonNull() ? "" : changelog.getAsString(),
+                        requires.toArray(new String[0]),
+                        requiredFiles.toArray(new String[0])
+                );
+            }
+            return table.build();
+        }
 
-                    @Override
-                    public Date getPublished() {
-                        return Date.from(Instant.parse(ver.get("date_published").getAsString()));
-                    }
+        @Override
+        public Platform getPlatform() {
+            return MODRINTH;
+        }
+    }
 
-                    @Override
-                    public int getFileDownloads() {
-                        return ver.get("downloads").getAsInt();
-                    }
+    private static final class CurseforgeWrapper extends Wrapper implements Integration {
+        /**
+         * CurseForge does not allow the index of a file to exceed this limit
+         */
+        private static final int MAX_FILES = 10000;
 
-                    @Override
-                    public ILoader[] getLoaders() {
-                        final JsonArray loaders = ver.get("loaders").getAsJsonArray();
-                        final List<ILoader> ll = new ArrayList<>();
-                        for (int j = 0; j < loaders.size(); j++) {
-                            final String l = loaders.get(j).getAsString().toUpperCase();
-                            ILoader loader = null;
-
-                            try {
-                                loader = ModLoader.valueOf(l);
-                            } catch (IllegalArgumentException ignored) {}
-
-                            if (loader == null) {
-                                try {
-                                    loader = PluginLoader.valueOf(l);
-                                } catch (IllegalArgumentException ignored) {}
-                            }
-
-                            if (loader == null) {
-                                try {
-                                    loader = ShaderLoader.valueOf(l);
-                                } catch (IllegalArgumentException ignored) {}
-                            }
-
-                            if(loader == null && (l.equals("DATAPACK") || l.equals("MINECRAFT"))) loader = ILoader.ANY;
-
-                            if(loader != null) ll.add(loader);
-                        }
-                        return ll.toArray(new ILoader[0]);
-                    }
+        private final JsonObject data;
+        private final Metadata meta;
+        private final PagedCollection<IntegrationFile> files;
+        private final Lazy<FileIndex> index = new Lazy<>(() -> FileIndex.of(getFiles()));
+        private final Lazy<Set<Author>> authors = new Lazy<>(this::fetchAuthors);
+        private final Lazy<String> description = new Lazy<>(() -> CURSEFORGE.getResponse("/mods/" + getId() + "/description", key).get("data").getAsString());
+        private final Executor executor;
+
+        private CurseforgeWrapper(final String modid, final @Nullable String key, final JsonObject data, final Executor executor) {
+            super(modid, key);
+            this.data = data;
+            this.executor = executor;
+            this.meta = decode(data);
+            final int size = Math.min(getPageSize(), 50);
+            this.files = new PagedCollection<>((page, offset) -> {
+                final JsonObject response = CURSEFORGE.getResponse("/mods/" + getId() + "/files?index=" + offset + "&pageSize=" + size, key);
+                final JsonArray array = response.get("data").getAsJsonArray();
+                final List<IntegrationFile> list = decodeFiles(array);
 
-                    @Override
-                    public String[] getVersions() {
-                        final JsonArray versions = ver.get("game_versions").getAsJsonArray();
-                        final String[] vs = new String[versions.size()];
-                        for (int j = 0; j < versions.size(); j++) {
-                            vs[j] = versions.get(j).getAsString();
-                        }
-                        return vs;
-                    }
+                int total = -1;
+                if (response.has("pagination")) total = Math.min(response.get("pagination").getAsJsonObject().get("totalCount").getAsInt(), MAX_FILES);
+                return new PagedCollection.Page<>(list, array.size() < size || offset + size >= MAX_FILES, total);
+            });
+        }
 
-                    @Override
-                    public Integration getParentIntegration() {
-                        return parent;
-                    }
+        private static CompletableFuture<Integration> fetch(final String modid, final @Nullable String key, final Executor executor) {
+            return CURSEFORGE.getResponseAsync("/mods/" + modid, key, executor)
+                    .thenApply(d -> new CurseforgeWrapper(modid, key, d.get("data").getAsJsonObject(), executor));
+        }
 
-                    @Override @Unmodifiable
-                    public Collection<IntegrationFile> getDependencies() {
-                        if (dependencies != null) {
-                            return dependencies;
-                        }
-                        final JsonArray array = ver.get("dependencies").getAsJsonArray();
-                        final List<IntegrationFile> dependencies = new ArrayList<>();
-                        for (JsonElement e : array) {
-                            final JsonObject d = e.getAsJsonObject();
-                            if (d.get("dependency_type").getAsString().equals("required")) {
-                                final String projid = d.get("project_id").getAsString();
-                                final String vid = d.has("version_id") && !d.get("version_id").isJsonNull() ? d.get("version_id").getAsString() : null;
-                                try {
-                                    final ModrinthWrapper mod = new ModrinthWrapper(projid, key);
-                                    final Collection<IntegrationFile> files = mod.getFiles();
-                                    if (vid != null) {
-                                        for (IntegrationFile mf : files) {
-                                            if (mf.getId().equals(vid)) {
-                                                dependencies.add(mf);
-                                                break;
-                                            }
-                                        }
-                                    } else {
-                                        mod.getFiles().stream().filter(
-                                                f -> f.getPossibleVersions().stream().anyMatch(
-                                                        i -> getPossibleVersions().contains(i)
-                                                )
-                                        ).findFirst().ifPresent(dependencies::add);
-                                    }
-                                } catch (IOException ignored) {}
-                            }
-                        }
-                        this.dependencies = Collections.unmodifiableCollection(dependencies);
-                        return this.dependencies;
-                    }
+        /**
+         * Resolves numeric identifiers with {@code POST /mods}. Other identifiers are resolved one by one
+         */
+        private static CompletableFuture<Void> fetchAll(final List<LazyIntegration> list, final @Nullable String key, final Executor executor,
+                                                        final Map<LazyIntegration, Integration> resolved, final Map<LazyIntegration, IOException> failures) {
+            final List<LazyIntegration> numeric = new ArrayList<>();
+            final List<LazyIntegration> other = new ArrayList<>();
+            for (LazyIntegration i : list) (i.identifier().chars().allMatch(Character::isDigit) && !i.identifier().isEmpty() ? numeric : other).add(i);
 
-                    @Override
-                    public String getId() {
-                        return ver.get("id").getAsString();
-                    }
+            final List<CompletableFuture<?>> futures = new ArrayList<>();
+            for (List<LazyIntegration> chunk : chunks(numeric)) futures.add(CompletableFuture.runAsync(() -> fetchChunk(chunk, key, executor, resolved, failures), executor));
+            futures.add(fetchEach(other, key, executor, resolved, failures));
+            return CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0]));
+        }
 
-                });
+        private static void fetchChunk(final List<LazyIntegration> chunk, final @Nullable String key, final Executor executor,
+                                       final Map<LazyIntegration, Integration> resolved, final Map<LazyIntegration, IOException> failures) {
+            try {
+                final JsonArray ids = new JsonArray(chunk.size());
+                chunk.forEach(i -> ids.add(Long.parseLong(i.identifier())));
+                final JsonObject body = new JsonObject();
+                body.add("modIds", ids);
+
+                final Map<String, JsonObject> mods = new HashMap<>();
+                for (JsonElement m : CURSEFORGE.postResponse("/mods", body, key).get("data").getAsJsonArray()) {
+                    mods.put(m.getAsJsonObject().get("id").getAsString(), m.getAsJsonObject());
+                }
+                for (LazyIntegration i : chunk) {
+                    final JsonObject mod = mods.get(String.valueOf(Long.parseLong(i.identifier())));
+                    if (mod != null) resolved.put(i, new CurseforgeWrapper(i.identifier(), key, mod, executor));
+                    else failures.put(i, new NotFoundException(CURSEFORGE, "/mods/" + i.identifier(), 404));
+                }
+            } catch (IOException e) {
+                chunk.forEach(i -> failures.put(i, e));
+            } catch (RuntimeException e) {
+                chunk.forEach(i -> failures.put(i, new IOException("Malformed response of CurseForge", e)));
             }
-            return Collections.unmodifiableCollection(fileList);
         }
 
-        @Override
-        public Platform getPlatform() {
-            return MODRINTH;
-        }
-    }
+        private static Metadata decode(final JsonObject data) {
+            final IntegrationType type = classType(data.get("classId").getAsInt());
+            final Status status = switch (data.get("status").getAsInt()) {
+                case 1 -> NEW;
+                case 2 -> CHANGES_REQUIRED;
+                case 3 -> UNDER_SOFT_REVIEW;
+                case 4 -> APPROVED;
+                case 5 -> REJECTED;
+                case 6 -> CHANGES_MADE;
+                case 7 -> INACTIVE;
+                case 8 -> ABANDONED;
+                case 9 -> DELETED;
+                case 10 -> UNDER_REVIEW;
+                default -> UNKNOWN;
+            };
 
-    private static final class CurseforgeWrapper extends Wrapper implements Integration {
-        private final JsonObject data;
-        private final JsonArray versions;
+            final JsonElement logo = data.get("logo");
+            final JsonElement l = data.get("links");
+            final JsonObject links = l != null && l.isJsonObject() ? l.getAsJsonObject() : new JsonObject();
+            final List<URL> screenshots = new ArrayList<>();
+            for (JsonElement sc : data.get("screenshots").getAsJsonArray()) {
+                final URL u = Metadata.url(sc.getAsJsonObject().get("url"));
+                if (u != null) screenshots.add(u);
+            }
 
-        public CurseforgeWrapper(final String modid, final @Nullable String key) throws IOException {
-            super(modid, key);
-            this.data = CURSEFORGE.getResponse("/mods/" + modid, key).get("data").getAsJsonObject();
-            this.versions = CURSEFORGE.getResponse("/mods/" + modid + "/files?pageSize=10000", key).get("data").getAsJsonArray();
+            return new Metadata(
+                    String.valueOf(data.get("id").getAsInt()),
+                    data.get("slug").getAsString(),
+                    data.get("name").getAsString(),
+                    type, status,
+                    data.get("gameId").getAsInt() == 432 ? JAVA : BEDROCK,
+                    "Unknown",
+                    Metadata.time(data, "dateCreated"),
+                    Metadata.time(data, "dateModified"),
+                    Metadata.time(data, "dateReleased"),
+                    data.get("downloadCount").getAsInt(),
+                    data.get("thumbsUpCount").getAsInt(),
+                    logo != null && logo.isJsonObject() ? Metadata.url(logo.getAsJsonObject().get("url")) : null,
+                    Metadata.url(links.get("issuesUrl")),
+                    Metadata.url(links.get("wikiUrl")),
+                    Metadata.url(links.get("sourceUrl")),
+                    null,
+                    decodeCategories(data.get("categories").getAsJsonArray(), type),
+                    screenshots.toArray(new URL[0])
+            );
         }
 
         @Override
         public String getTitle() {
-            return data.get("name").getAsString();
+            return meta.title();
         }
 
         @Override
         public String getSlug() {
-            return data.get("slug").getAsString();
+            return meta.slug();
         }
 
         /**
@@ -524,15 +825,26 @@ public final class Modding {
         @Override
         public String getFullDescription() {
             try {
-                return CURSEFORGE.getResponse("/mods/" + getId() + "/description", key).get("data").getAsString();
+                return description.get();
             } catch (IOException e) {
                 return "";
             }
         }
 
+        /**
+         * Authors are a part of the mod, so only the first page of files and the description can be fetched
+         */
+        @Override
+        public void prefetch(final EnumSet<Part> parts) throws IOException {
+            final List<Platform.Call<?>> calls = new ArrayList<>();
+            if (parts.contains(Part.VERSIONS)) calls.add(files::prefetch);
+            if (parts.contains(Part.DESCRIPTION)) calls.add(description::get);
+            Modding.prefetch(calls, executor);
+        }
+
         @Override
         public String getId() {
-            return String.valueOf(data.get("id").getAsInt());
+            return meta.id();
         }
 
         /**
@@ -540,114 +852,67 @@ public final class Modding {
          */
         @Override @Deprecated
         public String getLicense() {
-            return "Unknown";
+            return meta.license();
         }
 
         @Override
         public Edition getEdition() {
-            return data.get("gameId").getAsInt() == 432 ? JAVA : BEDROCK;
+            return meta.edition();
         }
 
         @Override
         public Date getPublished() {
-            return Date.from(Instant.parse(data.get("dateCreated").getAsString()));
+            return meta.getPublished();
         }
 
         @Override
         public Date getUpdated() {
-            return Date.from(Instant.parse(data.get("dateModified").getAsString()));
+            return meta.getUpdated();
         }
 
         @Override
         public Date getApproved() {
-            return Date.from(Instant.parse(data.get("dateReleased").getAsString()));
+            return meta.getApproved();
         }
 
         @Override
         public IntegrationType getType() {
-            return switch (data.get("classId").getAsInt()) {
-                case 6, 4984 -> MOD;
-                case 5 -> PLUGIN;
-                case 12, 6929 -> RESOURCEPACK;
-                case 17, 6913 -> WORLD;
-                case 4546, 6925 -> CUSTOMIZATION;
-                case 4471 -> MODPACK;
-                case 4559 -> ADDON;
-                case 6552 -> SHADER;
-                case 6945, 6940 -> DATAPACK;
-                default -> MOD;
-            };
+            return meta.type();
         }
 
         @Override
         public Status getStatus() {
-            return switch (data.get("status").getAsInt()) {
-                case 1 -> NEW;
-                case 2 -> CHANGES_REQUIRED;
-                case 3 -> UNDER_SOFT_REVIEW;
-                case 4 -> APPROVED;
-                case 5 -> REJECTED;
-                case 6 -> CHANGES_MADE;
-                case 7 -> INACTIVE;
-                case 8 -> ABANDONED;
-                case 9 -> DELETED;
-                case 10 -> UNDER_REVIEW;
-                default -> UNKNOWN;
-            };
+            return meta.status();
         }
 
         @Override
         public int getDownloads() {
-            return data.get("downloadCount").getAsInt();
+            return meta.downloads();
         }
 
         @Override
         public int getLikes() {
-            return data.get("thumbsUpCount").getAsInt();
+            return meta.likes();
         }
 
         @Override @Nullable
         public URL getIcon() {
-            try {
-                final String i = data.get("logo").getAsJsonObject().get("url").getAsString();
-                if (i == null || i.isEmpty()) return null;
-                return new URL(i);
-            } catch (MalformedURLException e) {
-                return null;
-            }
+            return meta.icon();
         }
 
         @Override @Nullable
         public URL getIssues() {
-            try {
-                final String i = data.get("links").getAsJsonObject().get("issuesUrl").getAsString();
-                if (i == null || i.isEmpty()) return null;
-                return new URL(i);
-            } catch (MalformedURLException | UnsupportedOperationException | NullPointerException e) {
-                return null;
-            }
+            return meta.issues();
         }
 
         @Override @Nullable
         public URL getWiki() {
-            try {
-                final String w = data.get("links").getAsJsonObject().get("wikiUrl").getAsString();
-                if (w == null || w.isEmpty()) return null;
-                return new URL(w);
-            } catch (MalformedURLException | UnsupportedOperationException | NullPointerException e) {
-                return null;
-            }
+            return meta.wiki();
         }
 
         @Override @Nullable
         public URL getSource() {
-            try {
-                final String s = data.get("links").getAsJsonObject().get("sourceUrl").getAsString();
-                if (s == null || s.isEmpty()) return null;
-                return new URL(s);
-            } catch (MalformedURLException | UnsupportedOperationException | NullPointerException e) {
-                return null;
-            }
+            return meta.source();
         }
 
         /**
@@ -661,383 +926,148 @@ public final class Modding {
         @Override
         public Set<Author> getAuthors() {
             try {
-                final JsonArray array = data.get("authors").getAsJsonArray();
-                final Set<Author> authors = new HashSet<>(array.size());
-
-                for (JsonElement i : array) {
-                    final Author a = Authority.getAuthor(getPlatform(), i.getAsJsonObject().get("id").getAsString(), key);
-                    authors.add(a);
-                }
-                return authors;
+                return authors.get();
             } catch (Exception e) {
                 return Collections.emptySet();
             }
         }
 
         @Override
-        public Set<ICategory> getCategories() {
-            final JsonArray categories = data.get("categories").getAsJsonArray();
-            final Set<ICategory> set = new HashSet<>();
-            for (JsonElement c : categories) {
-                final int id = c.getAsJsonObject().get("id").getAsInt();
-                final ICategory t = switch (getType()) {
-                    case PLUGIN -> switch (id) {
-                        case 124 -> PluginCategory.WORLD_EDITING_AND_MANAGEMENT;
-                        case 128 -> PluginCategory.INFORMATIONAL;
-                        case 115 -> PluginCategory.ADMIN_TOOLS;
-                        case 133 -> PluginCategory.MISCELLANEOUS;
-                        case 132 -> PluginCategory.ROLE_PLAYING;
-                        case 116 -> PluginCategory.ANTI_GRIEFING_TOOLS;
-                        case 122 -> PluginCategory.DEVELOPER_TOOLS;
-                        case 127 -> PluginCategory.GENERAL;
-                        case 125 -> PluginCategory.FIXES;
-                        case 129 -> PluginCategory.MECHANICS;
-                        case 131 -> PluginCategory.WORLD_GENERATORS;
-                        case 130 -> PluginCategory.WEBSITE_ADMINISTRATION;
-                        case 134 -> PluginCategory.TRANSPORTATION;
-                        case 126 -> PluginCategory.FUN;
-                        case 117 -> PluginCategory.CHAT_RELATED;
-                        case 123 -> PluginCategory.ECONOMY;
-                        case 4672 -> PluginCategory.TWITCH_INTEGRATION;
-                        default -> null;
-                    };
-
-                    case MOD -> switch (id) {
-                        case 436, 8836 -> ModCategory.FOOD;
-                        case 408 -> ModCategory.ORES;
-                        case 425, 4995, 4994, 8830, 4996 -> ModCategory.MISCELLANEOUS;
-                        case 424, 4987, 4989, 8825 -> ModCategory.COSMETIC;
-                        case 5299 -> ModCategory.EDUCATION;
-                        case 413 -> ModCategory.PROCESSING;
-                        case 423 -> ModCategory.INFORMATION;
-                        case 416 -> ModCategory.FARMING;
-                        case 412, 8826 -> ModCategory.TECHNOLOGY;
-                        case 418 -> ModCategory.GENETICS;
-                        case 409 -> ModCategory.STRUCTURES;
-                        case 411, 8833, 4991 -> ModCategory.MOBS;
-                        case 419 -> ModCategory.MAGIC;
-                        case 426, 427, 432, 428, 429, 4545,
-                             433, 4485, 430, 4773, 5314, 5232,
-                             6145, 6484, 6954, 7669, 9049 -> ModCategory.ADDONS;
-                        case 410 -> ModCategory.DIMENSIONS;
-                        case 434, 8834 -> ModCategory.EQUIPMENT;
-                        case 406, 4986, 4992 -> ModCategory.WORLD_GEN;
-                        case 435, 4990, 8835, 8832 -> ModCategory.UTILITIES;
-                        case 414 -> ModCategory.TRANSPORTATION;
-                        case 417 -> ModCategory.ENERGY;
-                        case 407 -> ModCategory.BIOMES;
-                        case 422, 8829, 4993,
-                             8831, 8827, 8828 -> ModCategory.RPG;
-                        case 421 -> ModCategory.LIBRARY;
-                        case 420 -> ModCategory.STORAGE;
-                        case 4558 -> ModCategory.REDSTONE;
-                        case 4843 -> ModCategory.AUTOMATION;
-                        case 4671 -> ModCategory.TWITCH_INTEGRATION;
-                        case 4906 -> ModCategory.MCREATOR;
-                        case 6814, 8837 -> ModCategory.PERFORMANCE;
-                        case 6821 -> ModCategory.BUG_FIXES;
-                        case 9026 -> ModCategory.CREATIVE;
-                        default -> null;
-                    };
-
-                    case RESOURCEPACK -> switch (id) {
-                        case 400, 6932, 6939 -> ResourcepackCategory.REALISTIC;
-                        case 399 -> ResourcepackCategory.STEAMPUNK;
-                        case 403 -> ResourcepackCategory.TRADITIONAL;
-                        case 398 -> ResourcepackCategory.RES_512X;
-                        case 396, 6938 -> ResourcepackCategory.RES_128X;
-                        case 397 -> ResourcepackCategory.RES_256X;
-                        case 402 -> ResourcepackCategory.MEDIEVAL;
-                        case 395, 6937 -> ResourcepackCategory.RES_64X;
-                        case 405, 6930, 6931 -> ResourcepackCategory.MISCELLANEOUS;
-                        case 394, 6936 -> ResourcepackCategory.RES_32X;
-                        case 393, 6935 -> ResourcepackCategory.RES_16X;
-                        case 404 -> ResourcepackCategory.ANIMATED;
-                        case 401 -> ResourcepackCategory.MODERN;
-                        case 4465 -> ResourcepackCategory.MOD_SUPPORT;
-                        case 5193 -> ResourcepackCategory.DATA_PACKS;
-                        case 5244 -> ResourcepackCategory.FONT_PACKS;
-                        case 6933 -> ResourcepackCategory.SIMPLISTIC;
-                        case 6934 -> ResourcepackCategory.THEMED;
-                        default -> null;
-                    };
-
-                    case WORLD -> switch (id) {
-                        case 251, 6919 -> WorldCategory.PARKOUR;
-                        case 253, 6924, 6921 -> WorldCategory.SURVIVAL;
-                        case 249, 6915, 6916 -> WorldCategory.CREATION;
-                        case 250, 6923, 6922 -> WorldCategory.GAME_MAP;
-                        case 248, 6914, 6918, 6917 -> WorldCategory.ADVENTURE;
-                        case 4464 -> WorldCategory.MODDED_WORLD;
-                        case 252, 6920 -> WorldCategory.PUZZLE;
-                        default -> null;
-                    };
-
-                    case MODPACK -> switch (id) {
-                        case 4475 -> ModpackCategory.RPG;
-                        case 4487 -> ModpackCategory.FTB;
-                        case 4478 -> ModpackCategory.QUESTS;
-                        case 4481 -> ModpackCategory.SMALL;
-                        case 4483 -> ModpackCategory.COMBAT;
-                        case 4472 -> ModpackCategory.TECH;
-                        case 4474 -> ModpackCategory.SCI_FI;
-                        case 4479 -> ModpackCategory.HARDCORE;
-                        case 4484 -> ModpackCategory.MULTIPLAYER;
-                        case 4477 -> ModpackCategory.MINI_GAME;
-                        case 4482 -> ModpackCategory.EXTRA_LARGE;
-                        case 4473 -> ModpackCategory.MAGIC;
-                        case 4736 -> ModpackCategory.SKYBLOCK;
-                        case 4480 -> ModpackCategory.MAP_BASED;
-                        case 4476 -> ModpackCategory.EXPLORATION;
-                        case 5128 -> ModpackCategory.VANILLA_PLUS;
-                        case 4471 -> ModpackCategory.HORROR;
-                        default -> null;
-                    };
-
-                    case CUSTOMIZATION -> switch (id) {
-                        case 4551 -> CustomizationCategory.HARDCORE_QUESTING_MODE;
-                        case 4549 -> CustomizationCategory.GUIDEBOOK;
-                        case 4554 -> CustomizationCategory.RECIPES;
-                        case 4556 -> CustomizationCategory.PROGRESSION;
-                        case 4550 -> CustomizationCategory.QUESTS;
-                        case 4752 -> CustomizationCategory.BUILDING_GADGETS;
-                        case 4548 -> CustomizationCategory.LUCKY_BLOCKS;
-                        case 4547 -> CustomizationCategory.CONFIGURATION;
-                        case 4555, 6926 -> CustomizationCategory.WORLD_GEN;
-                        case 4552 -> CustomizationCategory.SCRIPTS;
-                        case 5186 -> CustomizationCategory.FANCY_MENU;
-                        case 6928, 6927 -> CustomizationCategory.SKINS;
-                        default -> null;
-                    };
-
-                    case ADDON -> switch (id) {
-                        case 4561 -> AddonCategory.RESOURCE_PACKS;
-                        case 4562 -> AddonCategory.SCENARIOS;
-                        case 4560 -> AddonCategory.WORLDS;
-                        default -> null;
-                    };
-
-                    case DATAPACK -> switch (id) {
-                        case 6952 -> DatapackCategory.MAGIC;
-                        case 6945, 6941 -> DatapackCategory.MISCELLANEOUS;
-                        case 6554 -> DatapackCategory.FANTASY;
-                        case 4465 -> DatapackCategory.MOD_SUPPORT;
-                        case 412 -> DatapackCategory.TECH;
-                        case 421 -> DatapackCategory.LIBRARY;
-                        case 5191, 8824 -> DatapackCategory.UTILITY;
-                        case 422 -> DatapackCategory.ADVENTURE;
-                        default -> null;
-                    };
-
-                    case SHADER -> switch (id) {
-                        case 6555 -> ShaderCategory.VANILLA;
-                        case 6554 -> ShaderCategory.FANTASY;
-                        case 6553 -> ShaderCategory.REALISTIC;
-                        default -> null;
-                    };
+        public Set<String> getAuthorIds() {
+            final Set<String> ids = new LinkedHashSet<>();
+            for (JsonElement i : data.get("authors").getAsJsonArray()) ids.add(i.getAsJsonObject().get("id").getAsString());
+            return Collections.unmodifiableSet(ids);
+        }
 
-                    default -> null;
-                };
-                if(t != null) set.add(t);
+        /**
+         * Authors are created from the project data, and each of them is fetched only when its avatar or date of registration is requested
+         */
+        private Set<Author> fetchAuthors() {
+            final Set<Author> authors = new LinkedHashSet<>();
+            for (JsonElement i : data.get("authors").getAsJsonArray()) {
+                final JsonObject object = i.getAsJsonObject();
+                final String name = object.has("name") && !object.get("name").isJsonNull() ? object.get("name").getAsString() : null;
+                authors.add(Authority.lazy(getPlatform(), object.get("id").getAsString(), name, key));
             }
-            return set;
+            return Collections.unmodifiableSet(authors);
+        }
+
+        @Override @Unmodifiable
+        public Set<ICategory> getCategories() {
+            return meta.categories();
+        }
+
+        private static CategorySet decodeCategories(final JsonArray categories, final IntegrationType type) {
+            final List<String> ids = new ArrayList<>(categories.size());
+            for (JsonElement c : categories) ids.add(c.getAsJsonObject().get("id").getAsString());
+            return CategoryRegistry.decode(CURSEFORGE, type, ids);
         }
 
         @Override
         public URL[] getScreenshots() {
-            final JsonArray screenshots = data.get("screenshots").getAsJsonArray();
-            final List<URL> urls = new ArrayList<>();
-            for (JsonElement sc : screenshots) {
-                try {
-                    final String u = sc.getAsJsonObject().get("url").getAsString();
-                    if (u != null && !u.isEmpty()) {
-                        urls.add(new URL(u));
-                    }
-                } catch (MalformedURLException ignored) {}
-            }
-            return urls.toArray(new URL[0]);
+            return meta.getScreenshots();
         }
 
         @Override @Unmodifiable
         public Collection<IntegrationFile> getFiles() {
-            final List<IntegrationFile> list = new ArrayList<>();
-            final String modid = getId();
-            final @Nullable String key = this.key;
-            final Integration parent = this;
-            final IntegrationType type = getType();
-            for (int i = 0; i < versions.size(); i++) {
-                final JsonObject object = versions.get(i).getAsJsonObject();
-                list.add(new IntegrationFile() {
-
-                    private Collection<IntegrationFile> dependencies = null;
-
-                    @Override
-                    public IntegrationType getType() {
-                        return type;
-                    }
-
-                    @Override
-                    public Side getSide() {
-                        if(type == PLUGIN) return SERVER;
-
-                        final JsonArray sgv = object.get("sortableGameVersions").getAsJsonArray();
-                        final List<Side> sides = new ArrayList<>();
-                        for (JsonElement el : sgv) {
-                            final JsonObject obj = el.getAsJsonObject();
-                            final String type = obj.get("gameVersionName").getAsString().toUpperCase();
-
-                            try {
-                                sides.add(Side.valueOf(type));
-                            } catch (IllegalArgumentException ignored) {}
-                        }
-
-                        if ((sides.contains(SERVER) && sides.contains(CLIENT)) || sides.isEmpty()) return ANY;
-                        else return sides.getFirst();
-                    }
-
-                    /**
-                     * @return The changelog of the integration file with HTML tags.
-                     */
-                    @Override
-                    public String getChangelog() {
-                        String changelog;
-                        try {
-                            final JsonObject json = CURSEFORGE.getResponse("/mods/" + modid + "/files/" + object.get("id").getAsString() + "/changelog", key);
-                            changelog = json.get("data").getAsString();
-                            return changelog;
-                        } catch (Exception e) {
-                            return "";
-                        }
-                    }
-
-                    @Override
-                    public String getFileName() {
-                        return object.get("fileName").getAsString();
-                    }
-
-                    @Override @Nullable
-                    public URL getURL() {
-                        try {
-                            return new URL(object.get("downloadUrl").getAsString());
-                        } catch (MalformedURLException | UnsupportedOperationException | NullPointerException e) {
-                            return null;
-                        }
-                    }
-
-                    @Override
-                    public int getSize() {
-                        return object.get("fileLength").getAsInt();
-                    }
-
-                    @Override
-                    public Date getPublished() {
-                        return Date.from(Instant.parse(object.get("fileDate").getAsString()));
-                    }
-
-                    @Override
-                    public int getFileDownloads() {
-                        return object.get("downloadCount").getAsInt();
-                    }
-
-                    @Override
-                    public ILoader[] getLoaders() {
-                        final JsonArray sgv = object.get("sortableGameVersions").getAsJsonArray();
-                        final List<ILoader> ll = new ArrayList<>();
-                        for (JsonElement el : sgv) {
-                            final JsonObject obj = el.getAsJsonObject();
-                            final String l = obj.get("gameVersionName").getAsString().toUpperCase();
-                            if(obj.get("gameVersionPadded").getAsString().equals("0")) {
-                                ILoader loader = null;
-
-                                try {
-                                    loader = ModLoader.valueOf(l);
-                                } catch (IllegalArgumentException ignored) {}
-
-                                if (loader == null) {
-                                    try {
-                                        loader = PluginLoader.valueOf(l);
-                                    } catch (IllegalArgumentException ignored) {}
-                                }
-
-                                if (loader == null) {
-                                    try {
-                                        loader = ShaderLoader.valueOf(l);
-                                    } catch (IllegalArgumentException ignored) {}
-                                }
-
-                                if(loader != null) ll.add(loader);
-                            }
-                        }
-
-                        ILoader loader = null;
-
-                        if (
-                                type == DATAPACK ||
-                                type == RESOURCEPACK ||
-                                type == WORLD ||
-                                type == CUSTOMIZATION ||
-                                type == ADDON
-                        ) loader = ILoader.ANY;
-                        else if (type == PLUGIN) loader = PluginLoader.BUKKIT;
-
-                        if(loader != null) ll.add(loader);
-
-                        if(ll.isEmpty()) ll.add(getPossibleLoaders().toArray(new ILoader[0])[0]);
+            return files;
+        }
 
-                        return ll.toArray(new ILoader[0]);
-                    }
+        @Override
+        public FileIndex getFileIndex() {
+            try {
+                return index.get();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
 
-                    @Override
-                    public String[] getVersions() {
-                        final JsonArray sgv = object.get("sortableGameVersions").getAsJsonArray();
-                        final List<String> ll = new ArrayList<>();
-                        for (JsonElement el : sgv) {
-                            final JsonObject obj = el.getAsJsonObject();
-                            final String type = obj.get("gameVersionName").getAsString().toLowerCase();
-                            if(!obj.get("gameVersionPadded").getAsString().equals("0") && type.equals(obj.get("gameVersionName").getAsString())) {
-                                ll.add(type);
-                            }
-                        }
-                        return ll.toArray(new String[0]);
-                    }
+        /**
+         * Algorithms of CurseForge are 1 for SHA-1 and 2 for MD5
+         */
+        private static Map<String, String> decodeHashes(final JsonObject file) {
+            final Map<String, String> hashes = new HashMap<>();
+            if (!file.has("hashes") || !file.get("hashes").isJsonArray()) return hashes;
+            for (JsonElement e : file.get("hashes").getAsJsonArray()) {
+                final JsonObject hash = e.getAsJsonObject();
+                final String algorithm = switch (hash.get("algo").getAsInt()) {
+                    case 1 -> "SHA-1";
+                    case 2 -> "MD5";
+                    default -> null;
+                };
+                if (algorithm != null) hashes.put(algorithm, hash.get("value").getAsString().toLowerCase(Locale.ROOT));
+            }
+            return hashes;
+        }
 
-                    @Override
-                    public Integration getParentIntegration() {
-                        return parent;
-                    }
+        /**
+         * Changelogs are not a part of the listing, so they are fetched when they are requested
+         */
+        private FileTable decodeFiles(final JsonArray array) {
+            final String modid = getId();
+            final IntegrationType type = getType();
+            final FileTable.Builder table = new FileTable.Builder(this, type, key, array.size()).changelogs(
+                    file -> CURSEFORGE.getResponse("/mods/" + modid + "/files/" + file + "/changelog", key).get("data").getAsString()
+            );
+
+            for (JsonElement e : array) {
+                final JsonObject object = e.getAsJsonObject();
+                final long published = Metadata.time(object, "fileDate");
+                final VersionDecoder.Decoded decoded = VersionDecoder.decode(object.get("sortableGameVersions").getAsJsonArray());
+
+                final List<String> requires = new ArrayList<>();
+                for (JsonElement d : object.get("dependencies").getAsJsonArray()) {
+                    if (d.getAsJsonObject().get("relationType").getAsInt() == 3) requires.add(d.getAsJsonObject().get("modId").getAsString());
+                }
 
-                    @Override @Unmodifiable
-                    public Collection<IntegrationFile> getDependencies() {
-                        if (dependencies != null) {
-                            return dependencies;
-                        }
-                        final List<IntegrationFile> dependencies = new ArrayList<>();
-                        for (JsonElement e : object.get("dependencies").getAsJsonArray()) {
-                            final JsonObject d = e.getAsJsonObject();
-                            if (d.get("relationType").getAsInt() == 3) {
-                                final String id = d.get("modId").getAsString();
-                                try {
-                                    final CurseforgeWrapper mod = new CurseforgeWrapper(id, key);
-                                    mod.getFiles().stream().filter(
-                                            f -> f.getPossibleVersions().stream().anyMatch(
-                                                    i -> getPossibleVersions().contains(i)
-                                            )
-                                    ).findFirst().ifPresent(dependencies::add);
-                                } catch (IOException ignored) {}
-                            }
-                        }
-                        this.dependencies = Collections.unmodifiableCollection(dependencies);
-                        return this.dependencies;
-                    }
+                table.add(
+                        object.get("id").getAsString(),
+                        object.get("fileName").getAsString(),
+                        Metadata.url(object.get("downloadUrl")),
+                        decodeHashes(object),
+                        object.get("fileLength").getAsInt(),
+                        object.get("downloadCount").getAsInt(),
+                        published,
+                        decoded.versions(),
+                        decodeLoaders(decoded.loaders(), type, published),
+                        type == PLUGIN ? SERVER : decoded.side(),
+                        null,
+                        requires.toArray(new String[0]),
+                        null
+                );
+            }
+            return table.build();
+        }
 
-                    @Override
-                    public String getId() {
-                        return object.get("id").getAsString();
+        /**
+         * Adds the default loader of the type, or the first loader which existed when the file was published if the file has none
+         */
+        private static ILoader[] decodeLoaders(final ILoader[] given, final IntegrationType type, final long published) {
+            final List<ILoader> ll = new ArrayList<>(Arrays.asList(given));
+
+            ILoader loader = null;
+
+            if (
+                    type == DATAPACK ||
+                    type == RESOURCEPACK ||
+                    type == WORLD ||
+                    type == CUSTOMIZATION ||
+                    type == ADDON
+            ) loader = ILoader.ANY;
+            else if (type == PLUGIN) loader = PluginLoader.BUKKIT;
+
+            if(loader != null) ll.add(loader);
+
+            if(ll.isEmpty()) {
+                for (ILoader possible : type.getLoaders()) {
+                    if (possible.getCreated().getTime() <= published) {
+                        ll.add(possible);
+                        break;
                     }
-
-                });
+                }
             }
-            return Collections.unmodifiableCollection(list);
+
+            return ll.toArray(new ILoader[0]);
         }
 
         @Override
@@ -1047,24 +1077,68 @@ public final class Modding {
     }
 
     private static final class SpigetWrapper extends Wrapper implements Integration {
-        private final JsonObject data;
-        private final JsonArray versions;
-        private final String url = "https://www.spigotmc.org/";
+        private static final String SITE = "https://www.spigotmc.org/";
 
-        public SpigetWrapper(final String modid, final @Nullable String key) throws IOException {
+        private final JsonObject data;
+        private final Metadata meta;
+        private final Version[] tested;
+        private final PagedCollection<IntegrationFile> files;
+        private final Lazy<FileIndex> index = new Lazy<>(() -> FileIndex.of(getFiles()));
+        private final Lazy<Set<Author>> authors = new Lazy<>(this::fetchAuthors);
+        private final Executor executor;
+
+        private SpigetWrapper(final String modid, final @Nullable String key, final JsonObject data, final Executor executor) {
             super(modid, key);
-            this.data = SPIGET.getResponse("/resources/" + modid, key);
-            this.versions = SPIGET.getResponseArray("/resources/" + modid + "/versions?size=10000", key);
+            this.data = data;
+            this.executor = executor;
+            this.meta = decode(data);
+            this.tested = data.getAsJsonArray("testedVersions").asList().stream()
+                    .map(JsonElement::getAsString)
+                    .map(i -> new Version(ILoader.ANY, i)).toArray(Version[]::new);
+            final int size = getPageSize();
+            this.files = new PagedCollection<>((page, offset) -> {
+                final JsonArray array = SPIGET.getResponseArray("/resources/" + getId() + "/versions?size=" + size + "&page=" + (page + 1), key);
+                final List<IntegrationFile> list = decodeFiles(array);
+                return new PagedCollection.Page<>(list, array.size() < size, -1);
+            });
+        }
+
+        private static CompletableFuture<Integration> fetch(final String modid, final @Nullable String key, final Executor executor) {
+            return SPIGET.getResponseAsync("/resources/" + modid, key, executor)
+                    .thenApply(d -> new SpigetWrapper(modid, key, d, executor));
+        }
+
+        private static Metadata decode(final JsonObject data) {
+            final JsonElement icon = data.get("icon");
+            final long released = data.get("releaseDate").getAsLong();
+            return new Metadata(
+                    data.get("id").getAsString(),
+                    data.get("file").getAsJsonObject().get("url").getAsString().split("/")[1].split("\\.")[0],
+                    data.get("name").getAsString(),
+                    PLUGIN, UNKNOWN, JAVA, "Unknown",
+                    released,
+                    data.get("updateDate").getAsLong(),
+                    released,
+                    data.get("downloads").getAsInt(),
+                    data.get("likes").getAsInt(),
+                    icon != null && icon.isJsonObject() && icon.getAsJsonObject().has("url") ? Metadata.url(SITE + icon.getAsJsonObject().get("url").getAsString()) : null,
+                    null,
+                    Metadata.url(data.get("documentation")),
+                    Metadata.url(data.get("sourceCodeLink")),
+                    Metadata.url(data.get("donationLink")),
+                    decodeCategories(data.get("category").getAsJsonObject().get("id").getAsInt()),
+                    new URL[0]
+            );
         }
 
         @Override
         public String getTitle() {
-            return data.get("name").getAsString();
+            return meta.title();
         }
 
         @Override
         public String getSlug() {
-            return data.get("file").getAsJsonObject().get("url").getAsString().split("/")[1].split("\\.")[0];
+            return meta.slug();
         }
 
         @Override
@@ -1072,9 +1146,20 @@ public final class Modding {
             return Base64.getDecoder().decode(data.get("description").getAsString()).toString();
         }
 
+        /**
+         * The description is a part of the resource, so only the first page of files and the authors can be fetched
+         */
+        @Override
+        public void prefetch(final EnumSet<Part> parts) throws IOException {
+            final List<Platform.Call<?>> calls = new ArrayList<>();
+            if (parts.contains(Part.VERSIONS)) calls.add(files::prefetch);
+            if (parts.contains(Part.TEAM)) calls.add(authors::get);
+            Modding.prefetch(calls, executor);
+        }
+
         @Override
         public String getId() {
-            return data.get("id").getAsString();
+            return meta.id();
         }
 
         /**
@@ -1082,47 +1167,61 @@ public final class Modding {
          */
         @Override @Deprecated
         public String getLicense() {
-            return "Unknown";
+            return meta.license();
         }
 
         @Override
         public Edition getEdition() {
-            return JAVA;
+            return meta.edition();
         }
 
         @Override
         public IntegrationType getType() {
-            return PLUGIN;
+            return meta.type();
         }
 
         public Version[] getTested() {
-            return data.getAsJsonArray("testedVersions").asList().stream()
-                    .map(JsonElement::getAsString)
-                    .map(i -> new Version(ILoader.ANY, i)).toArray(Version[]::new);
+            return tested.clone();
         }
 
         @Override
         public Set<Author> getAuthors() {
-            final Set<Author> authors = new HashSet<>();
-
             try {
-                authors.add(
-                        Authority.getAuthor(getPlatform(), data.get("author").getAsJsonObject().get("id").getAsString(), this.key)
-                );
-            } catch (IOException ignored) {}
+                return authors.get();
+            } catch (Exception e) {
+                return Collections.emptySet();
+            }
+        }
+
+        /**
+         * The author is created from the resource data and fetched only when needed. Contributors are listed only by their names,
+         * so they are searched concurrently and only once per integration. Contributors which can not be found are skipped
+         */
+        private Set<Author> fetchAuthors() throws IOException {
+            final List<CompletableFuture<Author>> futures = new ArrayList<>();
+            futures.add(CompletableFuture.completedFuture(
+                    Authority.lazy(getPlatform(), data.get("author").getAsJsonObject().get("id").getAsString(), null, key)
+            ));
 
             if(data.has("contributors")) {
-                final String[] contributors = data.get("contributors").getAsString().split(", ");
-                for (String i : contributors) {
-                    try {
-                        final JsonArray array = SPIGET.getResponseArray("/search/authors/" + i + "?field=name", key);
-                        final Author a = Authority.getAuthor(getPlatform(), array.get(0).getAsJsonObject().get("id").getAsString(), this.key);
-                        if(authors.stream().noneMatch(g -> g.getId().equals(a.getId()))) authors.add(a);
-                    } catch (IOException ignored) {}
+                for (String i : data.get("contributors").getAsString().split(", ")) {
+                    final String name = URLEncoder.encode(i, StandardCharsets.UTF_8).replace("+", "%20");
+                    futures.add(Platform.supplyAsync(() -> {
+                        final JsonArray array = SPIGET.getResponseArray("/search/authors/" + name + "?field=name", key);
+                        return Authority.getAuthor(getPlatform(), array.get(0).getAsJsonObject().get("id").getAsString(), key);
+                    }, executor));
                 }
             }
 
-            return authors;
+            final Set<Author> authors = new LinkedHashSet<>();
+            authors.add(Platform.join(futures.getFirst()));
+            for (CompletableFuture<Author> future : futures.subList(1, futures.size())) {
+                try {
+                    final Author a = Platform.join(future);
+                    if(authors.stream().noneMatch(g -> g.getId().equals(a.getId()))) authors.add(a);
+                } catch (IOException | RuntimeException ignored) {}
+            }
+            return Collections.unmodifiableSet(authors);
         }
 
         @Override
@@ -1132,73 +1231,51 @@ public final class Modding {
 
         @Override
         public Date getPublished() {
-            return Date.from(Instant.ofEpochMilli(data.get("releaseDate").getAsLong()));
+            return meta.getPublished();
         }
 
         @Override
         public Date getUpdated() {
-            return Date.from(Instant.ofEpochMilli(data.get("updateDate").getAsLong()));
+            return meta.getUpdated();
         }
 
         @Override
         public Date getApproved() {
-            return getPublished();
+            return meta.getApproved();
         }
 
-        @Override
+        @Override @Unmodifiable
         public Set<ICategory> getCategories() {
-            PluginCategory c;
-            switch (data.get("category").getAsJsonObject().get("id").getAsInt()) {
-                case 21, 19, 28, 2, 3, 4, 20 -> c = PluginCategory.GENERAL;
-                case 9, 26, 25, 15, 12, 7 -> c = PluginCategory.DEVELOPER_TOOLS;
-                case 6, 11, 14 -> c = PluginCategory.CHAT_RELATED;
-                case 16, 13, 8 -> c = PluginCategory.MISCELLANEOUS;
-                case 5, 10 -> c = PluginCategory.TRANSPORTATION;
-                case 18 -> c = PluginCategory.WORLD_EDITING_AND_MANAGEMENT;
-                case 27 -> c = PluginCategory.WEBSITE_ADMINISTRATION;
-                case 29 -> c = PluginCategory.WORLD_GENERATORS;
-                case 24 -> c = PluginCategory.ROLE_PLAYING;
-                case 22 -> c = PluginCategory.MECHANICS;
-                case 23 -> c = PluginCategory.ECONOMY;
-                case 17 -> c = PluginCategory.FUN;
-                default -> {
-                    return Collections.emptySet();
-                }
-            }
-            return Set.of(c);
+            return meta.categories();
+        }
+
+        private static CategorySet decodeCategories(final int id) {
+            return CategoryRegistry.decode(SPIGET, PLUGIN, List.of(String.valueOf(id)));
         }
 
         @Override
         public Status getStatus() {
-            return UNKNOWN;
+            return meta.status();
         }
 
         @Override
         public int getDownloads() {
-            return data.get("downloads").getAsInt();
+            return meta.downloads();
         }
 
         @Override
         public int getLikes() {
-            return data.get("likes").getAsInt();
+            return meta.likes();
         }
 
         @Override
         public @Nullable URL getIcon() {
-            try {
-                return new URL(url + data.get("icon").getAsJsonObject().get("url").getAsString());
-            } catch (MalformedURLException | UnsupportedOperationException | NullPointerException e) {
-                return null;
-            }
+            return meta.icon();
         }
 
         @Override
         public @Nullable URL getDonation() {
-            try {
-                return new URL(data.get("donationLink").getAsString());
-            } catch (MalformedURLException | UnsupportedOperationException | NullPointerException e) {
-                return null;
-            }
+            return meta.donation();
         }
 
         /**
@@ -1211,20 +1288,12 @@ public final class Modding {
 
         @Override
         public @Nullable URL getWiki() {
-            try {
-                return new URL(data.get("documentation").getAsString());
-            } catch (MalformedURLException | UnsupportedOperationException | NullPointerException e) {
-                return null;
-            }
+            return meta.wiki();
         }
 
         @Override
         public @Nullable URL getSource() {
-            try {
-                return new URL(data.get("sourceCodeLink").getAsString());
-            } catch (MalformedURLException | UnsupportedOperationException | NullPointerException e) {
-                return null;
-            }
+            return meta.source();
         }
 
         /**
@@ -1237,92 +1306,47 @@ public final class Modding {
 
         @Override @Unmodifiable
         public Collection<IntegrationFile> getFiles() {
-            final List<IntegrationFile> files = new ArrayList<>();
-            final Integration parent = this;
-            final Version[] t = getTested();
-            final String drl = url + data.get("file").getAsJsonObject().get("url").getAsString().split("=")[0] + "=";
-            for (int i = 0; i < versions.size(); i++) {
-                final JsonObject object = versions.get(i).getAsJsonObject();
-                files.add(new IntegrationFile() {
-
-                    /**
-                     * @return Always empty String as Spiget API does not provide changelog of the files
-                     */
-                    @Override @Deprecated
-                    public String getChangelog() {
-                        return "";
-                    }
-
-                    @Override
-                    public IntegrationType getType() {
-                        return PLUGIN;
-                    }
-
-                    @Override
-                    public Side getSide() {
-                        return SERVER;
-                    }
-
-                    @Override
-                    public String getFileName() {
-                        return object.get("name").getAsString() + ".jar";
-                    }
-
-                    @Override
-                    public URL getURL() {
-                        try {
-                            return new URL(drl + object.get("id").getAsString());
-                        } catch (MalformedURLException | UnsupportedOperationException | NullPointerException e) {
-                            return null;
-                        }
-                    }
-
-                    /**
-                     * @return Always 1 because Spiget API does not provide information about file size
-                     */
-                    @Override @Deprecated
-                    public int getSize() {
-                        return 1;
-                    }
-
-                    @Override
-                    public Date getPublished() {
-                        return Date.from(Instant.ofEpochMilli(data.get("releaseDate").getAsLong()));
-                    }
-
-                    @Override
-                    public int getFileDownloads() {
-                        return object.get("downloads").getAsInt();
-                    }
-
-                    @Override
-                    public PluginLoader[] getLoaders() {
-                        return new PluginLoader[]{PluginLoader.SPIGOT, PluginLoader.PAPER};
-                    }
-
-                    @Override
-                    public String[] getVersions() {
-                        return Arrays.stream(t).map(Version::version).toArray(String[]::new);
-                    }
-
-                    @Override
-                    public Integration getParentIntegration() {
-                        return parent;
-                    }
-
-                    @Override @Unmodifiable
-                    public Collection<IntegrationFile> getDependencies() {
-                        return Collections.emptyList();
-                    }
+            return files;
+        }
 
-                    @Override
-                    public String getId() {
-                        return object.get("id").getAsString();
-                    }
+        @Override
+        public FileIndex getFileIndex() {
+            try {
+                return index.get();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
 
-                });
+        /**
+         * Spiget does not provide changelogs, sizes and dependencies of the files, so they are always empty, 1 and empty.
+         * Game versions of the files are the tested versions of the resource
+         */
+        private FileTable decodeFiles(final JsonArray array) {
+            final String drl = SITE + data.get("file").getAsJsonObject().get("url").getAsString().split("=")[0] + "=";
+            final String[] versions = Arrays.stream(tested).map(Version::version).toArray(String[]::new);
+            final FileTable.Builder table = new FileTable.Builder(this, PLUGIN, key, array.size());
+
+            for (JsonElement e : array) {
+                final JsonObject object = e.getAsJsonObject();
+                final String id = object.get("id").getAsString();
+                table.add(
+                        id,
+                        object.get("name").getAsString() + ".jar",
+                        Metadata.url(drl + id),
+                        Map.of(),
+                        1,
+                        object.get("downloads").getAsInt(),
+                        meta.published(),
+                        versions.clone(),
+                        new ILoader[]{PluginLoader.SPIGOT, PluginLoader.PAPER},
+                        SERVER,
+                        "",
+                        new String[0],
+                        null
+                );
             }
-            return Collections.unmodifiableCollection(files);
+            return table.build();
         }
 
         @Override
@@ -0,0 +1,134 @@
+package net.ovonsame.modding;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.*;
+
+/**
+ * Class {@code PagedCollection} is an unmodifiable collection which fetches its elements page by page while it is iterated.
+ * Fetched pages are kept, so every page is requested at most once. Iteration which stops early never requests the following pages.
+ * Errors of fetching are thrown as {@link UncheckedIOException} because collections can not throw checked exceptions.
+ * @param <T> Type of the elements
+ */
+final class PagedCollection<T> extends AbstractCollection<T> {
+    private final Loader<T> loader;
+    private final List<T> elements = new ArrayList<>();
+    private int pages;
+    private int total = -1;
+    private boolean complete;
+
+    PagedCollection(final Loader<T> loader) {
+        this.loader = loader;
+    }
+
+    /**
+     * @return Number of all elements. It is known after the first page if the platform gives the total count, otherwise all pages are fetched
+     */
+    @Override
+    public int size() {
+        synchronized (this) {
+            if (!complete && pages == 0) fetch();
+            if (total >= 0) return total;
+        }
+        while (fetch()) {}
+        synchronized (this) {
+            return elements.size();
+        }
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return !iterator().hasNext();
+    }
+
+    /**
+     * @return Spliterator of unknown size, so streams do not fetch all pages to find out the size
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return Spliterators.spliteratorUnknownSize(iterator(), Spliterator.ORDERED | Spliterator.NONNULL);
+    }
+
+    @Override
+    public @NotNull Iterator<T> iterator() {
+        return new Iterator<>() {
+            private int index;
+
+            @Override
+            public boolean hasNext() {
+                while (true) {
+                    synchronized (PagedCollection.this) {
+                        if (index < elements.size()) return true;
+                        if (complete) return false;
+                    }
+                    fetch();
+                }
+            }
+
+            @Override
+            public T next() {
+                if (!hasNext()) throw new NoSuchElementException();
+                synchronized (PagedCollection.this) {
+                    return elements.get(index++);
+                }
+            }
+        };
+    }
+
+    /**
+     * Fetches the first page if it is not fetched yet
+     * @return Whether the collection has elements
+     * @throws IOException If the page can not be fetched
+     */
+    boolean prefetch() throws IOException {
+        try {
+            return !isEmpty();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Fetches the next page if there is one
+     * @return Whether there may be more pages
+     */
+    private synchronized boolean fetch() {
+        if (complete) return false;
+        final Page<T> page;
+        try {
+            page = loader.load(pages, elements.size());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        pages++;
+        elements.addAll(page.elements());
+        if (page.total() >= 0) total = page.total();
+        complete = page.last() || page.elements().isEmpty() || (total >= 0 && elements.size() >= total);
+        if (complete) total = elements.size();
+        return !complete;
+    }
+
+    /**
+     * Fetches a page of elements
+     * @param <T> Type of the elements
+     */
+    @FunctionalInterface
+    interface Loader<T> {
+        /**
+         * @param page Number of the page starting from 0
+         * @param offset Number of elements on the previous pages
+         * @return The page
+         * @throws IOException If the page can not be fetched
+         */
+        Page<T> load(int page, int offset) throws IOException;
+    }
+
+    /**
+     * @param elements Elements of the page
+     * @param last Whether the page is the last one
+     * @param total Number of elements on all pages or -1 if it is unknown
+     */
+    record Page<T>(List<T> elements, boolean last, int total) {}
+}
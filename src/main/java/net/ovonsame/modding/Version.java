@@ -15,8 +15,17 @@ public record Version(ILoader loader, String version) {
         return loader.toString().toLowerCase() + "-" + version.toLowerCase();
     }
 
+    /**
+     * @return Canonical game version of the version
+     * @see GameVersionCatalog
+     */
+    public GameVersion getGameVersion() {
+        return GameVersionCatalog.of(version);
+    }
+
     /**
      * @return Whether the version is a snapshot
+     * @see GameVersion#isSnapshot()
      */
     public boolean isSnapshot() {
         return version().chars().anyMatch(Character::isLetter);
@@ -0,0 +1,108 @@
+package net.ovonsame.modding;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import net.ovonsame.modding.enumeration.Side;
+import net.ovonsame.modding.enumeration.loader.ModLoader;
+import net.ovonsame.modding.enumeration.loader.PluginLoader;
+import net.ovonsame.modding.enumeration.loader.ShaderLoader;
+import net.ovonsame.modding.interfaces.ILoader;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+/**
+ * Class {@code VersionDecoder} classifies names which platforms give to files, like loaders, sides and game versions.
+ * Names are looked up case-insensitively in a table built once for all platforms, so nothing is uppercased and no exceptions are thrown per name
+ */
+final class VersionDecoder {
+    private static final TreeMap<String, Entry> TABLE = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+    /**
+     * Modrinth also tags files which need no loader with "datapack" and "minecraft". CurseForge does not, so they are not in {@link #TABLE}
+     */
+    private static final TreeMap<String, Entry> MODRINTH = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+
+    static {
+        for (ModLoader l : ModLoader.values()) TABLE.putIfAbsent(l.name(), new Entry(l, null));
+        for (PluginLoader l : PluginLoader.values()) TABLE.putIfAbsent(l.name(), new Entry(l, null));
+        for (ShaderLoader l : ShaderLoader.values()) TABLE.putIfAbsent(l.name(), new Entry(l, null));
+        for (Side s : Side.values()) TABLE.put(s.name(), new Entry(null, s));
+        MODRINTH.putAll(TABLE);
+        MODRINTH.put("DATAPACK", new Entry(ILoader.ANY, null));
+        MODRINTH.put("MINECRAFT", new Entry(ILoader.ANY, null));
+    }
+
+    private VersionDecoder() {}
+
+    /**
+     * @param name Name of a loader in any case as Modrinth gives it
+     * @return The loader or null if the name is not a loader
+     */
+    static @Nullable ILoader loader(final String name) {
+        final Entry e = MODRINTH.get(name);
+        return e != null ? e.loader() : null;
+    }
+
+    /**
+     * @param names Array of loader names as Modrinth gives them
+     * @return Known loaders in the same order
+     */
+    static ILoader[] loaders(final JsonArray names) {
+        final List<ILoader> list = new ArrayList<>(names.size());
+        for (JsonElement n : names) {
+            final ILoader l = loader(n.getAsString());
+            if (l != null) list.add(l);
+        }
+        return list.toArray(new ILoader[0]);
+    }
+
+    /**
+     * Classifies {@code sortableGameVersions} of a CurseForge file in one pass. Entries without a padded version are loaders or sides,
+     * entries with it are game versions if their names are in lower case
+     * @param sortable Array of {@code sortableGameVersions}
+     * @return Game versions, loaders and sides of the file
+     */
+    static Decoded decode(final JsonArray sortable) {
+        final List<String> versions = new ArrayList<>(sortable.size());
+        final List<ILoader> loaders = new ArrayList<>(2);
+        final EnumSet<Side> sides = EnumSet.noneOf(Side.class);
+        Side first = null;
+
+        for (JsonElement el : sortable) {
+            final JsonObject obj = el.getAsJsonObject();
+            final String name = obj.get("gameVersionName").getAsString();
+            final boolean unpadded = obj.get("gameVersionPadded").getAsString().equals("0");
+            final Entry e = TABLE.get(name);
+
+            if (e != null && e.side() != null) {
+                sides.add(e.side());
+                if (first == null) first = e.side();
+            }
+            if (unpadded) {
+                if (e != null && e.loader() != null) loaders.add(e.loader());
+            } else if (isLowerCase(name)) {
+                versions.add(name);
+            }
+        }
+
+        final Side side = first == null || (sides.contains(Side.SERVER) && sides.contains(Side.CLIENT)) ? Side.ANY : first;
+        return new Decoded(versions.toArray(new String[0]), loaders.toArray(new ILoader[0]), side);
+    }
+
+    private static boolean isLowerCase(final String s) {
+        for (int i = 0; i < s.length(); i++) {
+            if (Character.isUpperCase(s.charAt(i))) return false;
+        }
+        return true;
+    }
+
+    private record Entry(@Nullable ILoader loader, @Nullable Side side) {}
+
+    /**
+     * @param versions Game versions
+     * @param loaders Loaders
+     * @param side Side, which is {@link Side#ANY} if both or none of the sides are given
+     */
+    record Decoded(String[] versions, ILoader[] loaders, Side side) {}
+}
@@ -0,0 +1,152 @@
+package net.ovonsame.modding.cache;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Class {@code MemoryCache} is a thread-safe in-memory cache bounded by the number of entries and by the time since an entry was stored.
+ * When the cache is full, the least recently used entry is evicted.
+ * @param <K> Type of the keys
+ * @param <V> Type of the values
+ */
+public final class MemoryCache<K, V> {
+    private final LinkedHashMap<K, Entry<V>> entries = new LinkedHashMap<>(64, 0.75f, true);
+    private int maxSize;
+    private long ttl;
+
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    /**
+     * @param maxSize Maximum number of entries
+     * @param ttl Time after which an entry is considered expired
+     */
+    public MemoryCache(final int maxSize, final Duration ttl) {
+        setMaxSize(maxSize);
+        setTtl(ttl);
+    }
+
+    /**
+     * @param key Key of the value
+     * @return Value which is not expired or null
+     */
+    public synchronized @Nullable V get(final K key) {
+        final Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            misses++;
+            return null;
+        }
+        if (entry.expires - System.nanoTime() <= 0) {
+            entries.remove(key);
+            evictions++;
+            misses++;
+            return null;
+        }
+        hits++;
+        return entry.value;
+    }
+
+    /**
+     * Stores the value and evicts the least recently used entries if the cache is full
+     * @param key Key of the value
+     * @param value Value to store
+     */
+    public synchronized void put(final K key, final V value) {
+        entries.put(key, new Entry<>(value, System.nanoTime() + ttl));
+        evict();
+    }
+
+    /**
+     * @param key Key of the value to remove
+     */
+    public synchronized void invalidate(final K key) {
+        entries.remove(key);
+    }
+
+    /**
+     * Removes all entries. Statistics are not reset
+     */
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    /**
+     * @return Number of stored entries including expired ones which were not evicted yet
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * @param maxSize Maximum number of entries. If there are more entries, the least recently used ones are evicted
+     */
+    public synchronized void setMaxSize(final int maxSize) {
+        if (maxSize < 0) throw new IllegalArgumentException("Maximum size can not be negative");
+        this.maxSize = maxSize;
+        evict();
+    }
+
+    public synchronized Duration getTtl() {
+        return Duration.ofNanos(ttl);
+    }
+
+    /**
+     * @param ttl Time after which newly stored entries are considered expired
+     */
+    public synchronized void setTtl(final Duration ttl) {
+        this.ttl = Objects.requireNonNull(ttl).toNanos();
+    }
+
+    /**
+     * @return Snapshot of hits, misses and evictions of the cache
+     */
+    public synchronized Statistics getStatistics() {
+        return new Statistics(hits, misses, evictions);
+    }
+
+    /**
+     * Resets hits, misses and evictions
+     */
+    public synchronized void resetStatistics() {
+        hits = 0;
+        misses = 0;
+        evictions = 0;
+    }
+
+    private void evict() {
+        final Iterator<Map.Entry<K, Entry<V>>> iterator = entries.entrySet().iterator();
+        while (entries.size() > maxSize && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+            evictions++;
+        }
+    }
+
+    private record Entry<V>(V value, long expires) {}
+
+    /**
+     * Record class {@code Statistics} is a snapshot of the cache usage
+     * @param hits Number of lookups which have found a value
+     * @param misses Number of lookups which have not found a value
+     * @param evictions Number of entries removed because the cache was full or they have expired
+     */
+    public record Statistics(long hits, long misses, long evictions) {
+        /**
+         * @return Ratio of hits to all lookups or 0 if there were no lookups
+         */
+        public double getHitRate() {
+            final long total = hits + misses;
+            return total == 0 ? 0 : (double) hits / total;
+        }
+    }
+}
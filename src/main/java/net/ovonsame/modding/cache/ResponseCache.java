@@ -0,0 +1,287 @@
+package net.ovonsame.modding.cache;
+
+import net.ovonsame.modding.enumeration.Platform;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.*;
+import java.util.stream.Stream;
+
+/**
+ * Class {@code ResponseCache} is a persistent on-disk cache of platform responses.
+ * Every response is stored in its own file named by the hash of the platform, the endpoint and the API key, so a response fetched with one key
+ * is never served to a caller with another key. Keys themselves are never written.
+ * Fresh entries are served without a request, expired ones are revalidated with {@code ETag} and {@code Last-Modified} headers.
+ * When the total size exceeds the limit, the least recently used entries are deleted.
+ * @see Platform#setCache(ResponseCache)
+ */
+public final class ResponseCache {
+    private static final int MAGIC = 0x4D4F4443;
+    private static final int FORMAT = 2;
+
+    private final Path directory;
+    private final long maxSize;
+    private final EnumMap<Kind, Duration> ttl = new EnumMap<>(Kind.class);
+
+    /**
+     * Sizes of all entries in the access order, so the first one is the least recently used
+     */
+    private final LinkedHashMap<Path, Long> entries = new LinkedHashMap<>(64, 0.75f, true);
+    private long size;
+
+    /**
+     * @param directory Directory to store responses in. It is created if it does not exist
+     * @param maxSize Maximum total size of stored responses in bytes
+     * @throws IOException If the directory can not be created or read
+     */
+    public ResponseCache(final Path directory, final long maxSize) throws IOException {
+        if (maxSize <= 0) throw new IllegalArgumentException("Maximum size must be positive");
+        this.directory = directory;
+        this.maxSize = maxSize;
+
+        ttl.put(Kind.PROJECT, Duration.ofHours(1));
+        ttl.put(Kind.FILES, Duration.ofMinutes(15));
+        ttl.put(Kind.AUTHOR, Duration.ofDays(1));
+        ttl.put(Kind.OTHER, Duration.ofHours(1));
+
+        Files.createDirectories(directory);
+        try (final Stream<Path> files = Files.walk(directory)) {
+            final List<Path> list = files.filter(Files::isRegularFile).toList();
+            final Map<Path, Long> modified = new HashMap<>();
+            for (Path file : list) {
+                if (file.getFileName().toString().endsWith(".tmp")) {
+                    Files.deleteIfExists(file);
+                    continue;
+                }
+                modified.put(file, Files.getLastModifiedTime(file).toMillis());
+            }
+            modified.entrySet().stream()
+                    .sorted(Map.Entry.comparingByValue())
+                    .forEach(e -> {
+                        try {
+                            final long s = Files.size(e.getKey());
+                            entries.put(e.getKey(), s);
+                            size += s;
+                        } catch (IOException ignored) {}
+                    });
+        }
+        evict();
+    }
+
+    /**
+     * @param kind Kind of endpoints
+     * @return Time while responses of the kind are served without revalidation
+     */
+    public Duration getTtl(final Kind kind) {
+        synchronized (ttl) {
+            return ttl.get(kind);
+        }
+    }
+
+    /**
+     * @param kind Kind of endpoints
+     * @param duration Time while responses of the kind are served without revalidation
+     */
+    public void setTtl(final Kind kind, final Duration duration) {
+        synchronized (ttl) {
+            ttl.put(kind, Objects.requireNonNull(duration));
+        }
+    }
+
+    /**
+     * @return Total size of stored responses in bytes
+     */
+    public synchronized long size() {
+        return size;
+    }
+
+    /**
+     * @return Maximum total size of stored responses in bytes
+     */
+    public long getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * @param entry Stored response
+     * @param endpoint Endpoint of the response
+     * @return Whether the entry can be used without revalidation
+     */
+    public boolean isFresh(final Entry entry, final String endpoint) {
+        return System.currentTimeMillis() - entry.fetched() < getTtl(Kind.of(endpoint)).toMillis();
+    }
+
+    /**
+     * @param platform Platform of the response
+     * @param endpoint Endpoint of the response
+     * @param key API key which the response was fetched with or null
+     * @return Stored response, or null if there is none or it can not be read
+     */
+    public @Nullable Entry get(final Platform platform, final String endpoint, final @Nullable String key) {
+        final Path file = file(platform, endpoint, key);
+        synchronized (this) {
+            if (entries.get(file) == null) return null;
+        }
+        try (final DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != MAGIC || in.readInt() != FORMAT) throw new IOException("Unknown format");
+            if (!in.readUTF().equals(platform.name() + endpoint)) return null;
+            final long fetched = in.readLong();
+            final String charset = in.readUTF();
+            final String etag = in.readBoolean() ? in.readUTF() : null;
+            final String modified = in.readBoolean() ? in.readUTF() : null;
+            final byte[] body = new byte[in.readInt()];
+            in.readFully(body);
+            return new Entry(body, charset, etag, modified, fetched);
+        } catch (IOException e) {
+            remove(file);
+            return null;
+        }
+    }
+
+    /**
+     * Stores the response. File is written into a temporary file first and then atomically moved, so a crash never leaves a broken entry
+     * @param platform Platform of the response
+     * @param endpoint Endpoint of the response
+     * @param key API key which the response was fetched with or null
+     * @param entry Response to store
+     */
+    public void put(final Platform platform, final String endpoint, final @Nullable String key, final Entry entry) {
+        final Path file = file(platform, endpoint, key);
+        Path temp = null;
+        try {
+            Files.createDirectories(file.getParent());
+            temp = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+            try (final DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                out.writeInt(MAGIC);
+                out.writeInt(FORMAT);
+                out.writeUTF(platform.name() + endpoint);
+                out.writeLong(entry.fetched());
+                out.writeUTF(entry.charset());
+                out.writeBoolean(entry.etag() != null);
+                if (entry.etag() != null) out.writeUTF(entry.etag());
+                out.writeBoolean(entry.modified() != null);
+                if (entry.modified() != null) out.writeUTF(entry.modified());
+                out.writeInt(entry.body().length);
+                out.write(entry.body());
+            }
+            final long length = Files.size(temp);
+            try {
+                Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+            temp = null;
+
+            synchronized (this) {
+                final Long previous = entries.put(file, length);
+                size += length - (previous != null ? previous : 0);
+                evict();
+            }
+        } catch (IOException ignored) {
+            // The cache is an optimisation, so a failed write only means the next request goes to the platform
+        } finally {
+            if (temp != null) {
+                try {
+                    Files.deleteIfExists(temp);
+                } catch (IOException ignored) {}
+            }
+        }
+    }
+
+    /**
+     * Deletes all stored responses
+     */
+    public synchronized void clear() {
+        for (Path file : List.copyOf(entries.keySet())) remove(file);
+    }
+
+    private synchronized void evict() {
+        final Iterator<Map.Entry<Path, Long>> iterator = entries.entrySet().iterator();
+        while (size > maxSize && iterator.hasNext()) {
+            final Map.Entry<Path, Long> eldest = iterator.next();
+            iterator.remove();
+            size -= eldest.getValue();
+            try {
+                Files.deleteIfExists(eldest.getKey());
+            } catch (IOException ignored) {}
+        }
+    }
+
+    private synchronized void remove(final Path file) {
+        final Long length = entries.remove(file);
+        if (length != null) size -= length;
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException ignored) {}
+    }
+
+    /**
+     * Only a hash of the key is a part of the name, after a separator which endpoints do not contain
+     */
+    private Path file(final Platform platform, final String endpoint, final @Nullable String key) {
+        try {
+            final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(endpoint.getBytes(StandardCharsets.UTF_8));
+            if (key != null) {
+                digest.update((byte) 0);
+                digest.update(MessageDigest.getInstance("SHA-256").digest(key.getBytes(StandardCharsets.UTF_8)));
+            }
+            final byte[] hash = digest.digest();
+            return directory.resolve(platform.name().toLowerCase()).resolve(HexFormat.of().formatHex(hash));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Record class {@code Entry} is a stored response
+     * @param body Decompressed body of the response
+     * @param charset Charset of the body
+     * @param etag Value of {@code ETag} header or null
+     * @param modified Value of {@code Last-Modified} header or null
+     * @param fetched Time in milliseconds when the response was fetched or revalidated last time
+     */
+    public record Entry(byte[] body, String charset, @Nullable String etag, @Nullable String modified, long fetched) {
+        /**
+         * @return Whether the response can be revalidated with a conditional request
+         */
+        public boolean isRevalidatable() {
+            return etag != null || modified != null;
+        }
+
+        /**
+         * @return The same entry fetched now
+         */
+        public Entry revalidated() {
+            return new Entry(body, charset, etag, modified, System.currentTimeMillis());
+        }
+    }
+
+    /**
+     * Enumeration {@code Kind} groups endpoints which change with the same frequency, so they share time to live
+     */
+    public enum Kind {
+        PROJECT,
+        FILES,
+        AUTHOR,
+        OTHER;
+
+        /**
+         * @param endpoint Endpoint of any platform
+         * @return Kind of the endpoint
+         */
+        public static Kind of(final String endpoint) {
+            final String path = endpoint.split("\\?", 2)[0];
+            if (path.startsWith("/user") || path.startsWith("/authors") || path.startsWith("/search/authors")
+                    || path.endsWith("/members")) return AUTHOR;
+            if (path.contains("/files") || path.endsWith("/version") || path.contains("/versions")) return FILES;
+            if (path.startsWith("/project") || path.startsWith("/mods") || path.startsWith("/resources")) return PROJECT;
+            return OTHER;
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package net.ovonsame.modding.enumeration;
+
+/**
+ * Enumeration {@code Part} represents groups of integration data which are fetched on first access, because they need their own requests
+ * @see net.ovonsame.modding.interfaces.Integration#prefetch(java.util.EnumSet)
+ */
+public enum Part {
+    /**
+     * Versions and files of the integration
+     */
+    VERSIONS,
+    /**
+     * Authors of the integration
+     */
+    TEAM,
+    /**
+     * Full description of the integration
+     */
+    DESCRIPTION
+}
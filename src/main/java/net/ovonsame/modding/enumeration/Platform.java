@@ -2,29 +2,57 @@ package net.ovonsame.modding.enumeration;
 
 import com.google.gson.Gson;
 import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.stream.JsonReader;
+import net.ovonsame.modding.cache.ResponseCache;
+import net.ovonsame.modding.network.*;
 import org.jetbrains.annotations.Nullable;
 
 import java.io.*;
 import java.net.HttpURLConnection;
-import java.net.URL;
+import java.nio.charset.Charset;
+import java.nio.charset.IllegalCharsetNameException;
 import java.nio.charset.StandardCharsets;
+import java.nio.charset.UnsupportedCharsetException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.zip.GZIPInputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
 
 /**
  * Enumeration {@code Platform} represents all supported and the most popular platforms for posting Minecraft integrations
  */
 public enum Platform {
-    CURSEFORGE("https://api.curseforge.com/v1", true),
-    MODRINTH("https://api.modrinth.com/v2", false),
-    SPIGET("https://api.spiget.org/v2", false);
+    CURSEFORGE("https://api.curseforge.com/v1", true, 600),
+    MODRINTH("https://api.modrinth.com/v2", false, 300),
+    SPIGET("https://api.spiget.org/v2", false, 600);
 
     private final String url;
     private final boolean key;
+    private final RateLimiter limiter;
+    private final CircuitBreaker breaker = new CircuitBreaker(this, CircuitBreaker.Settings.DEFAULT);
+    private volatile RetryPolicy retry = RetryPolicy.DEFAULT;
 
-    Platform(String url, boolean key) {
+    private volatile Duration connectTimeout = Duration.ofSeconds(20);
+    private volatile Duration readTimeout = Duration.ofSeconds(20);
+    private volatile @Nullable ResponseListener listener;
+
+    private final SingleFlight<String, JsonElement> inFlight = new SingleFlight<>();
+
+    private final LongAdder compressed = new LongAdder();
+    private final LongAdder decompressed = new LongAdder();
+
+    Platform(String url, boolean key, int rate) {
         this.url = url;
         this.key = key;
+        this.limiter = new RateLimiter(rate, Duration.ofMinutes(1));
     }
 
     public final String getUrl() {
@@ -35,77 +63,432 @@ public enum Platform {
         return key;
     }
 
+    /**
+     * Limiter starts with the published quota of the platform, and its rate can be changed with {@link RateLimiter#setRate(int, Duration)}
+     * @return Limiter which every request to the platform waits for
+     */
+    public final RateLimiter getRateLimiter() {
+        return limiter;
+    }
+
+    /**
+     * Every platform has its own breaker, so an outage of one platform does not stall requests to others
+     * @return Circuit breaker which rejects requests while the platform is unhealthy
+     */
+    public final CircuitBreaker getCircuitBreaker() {
+        return breaker;
+    }
+
+    /**
+     * @return Policy of retrying throttled and failed requests
+     */
+    public final RetryPolicy getRetryPolicy() {
+        return retry;
+    }
+
+    /**
+     * @param policy Policy of retrying throttled and failed requests
+     */
+    public final void setRetryPolicy(final RetryPolicy policy) {
+        this.retry = Objects.requireNonNull(policy);
+    }
+
+    /**
+     * @return Timeout of establishing a new connection with the platform
+     */
+    public final Duration getConnectTimeout() {
+        return connectTimeout;
+    }
+
+    /**
+     * The timeout covers sending the request and receiving the status and headers of the response. Reading of the body is not limited by it,
+     * so a slow body of a large response is not cut off
+     * @return Timeout of waiting for the headers of the response of the platform
+     */
+    public final Duration getReadTimeout() {
+        return readTimeout;
+    }
+
+    /**
+     * Changes timeouts of the platform. Pooled connections of {@link HttpTransport} are dropped and the next request opens a new one
+     * @param connect Timeout of establishing a new connection
+     * @param read Timeout of waiting for the headers of the response, it does not limit reading of the body
+     * @see #getReadTimeout()
+     */
+    public final void setTimeouts(final Duration connect, final Duration read) {
+        this.connectTimeout = Objects.requireNonNull(connect);
+        this.readTimeout = Objects.requireNonNull(read);
+    }
+
+    /**
+     * @param listener Listener which is notified about every decoded response of the platform or null to remove it
+     * @see ResponseListener
+     */
+    public final void setResponseListener(final @Nullable ResponseListener listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * @return Number of bytes of all response bodies of the platform as they were transferred over the network
+     */
+    public final long getCompressedBytes() {
+        return compressed.sum();
+    }
+
+    /**
+     * @return Number of bytes of all response bodies of the platform after decompression
+     */
+    public final long getDecompressedBytes() {
+        return decompressed.sum();
+    }
+
+    /**
+     * Resets the counters of transferred bytes
+     */
+    public final void resetStatistics() {
+        compressed.reset();
+        decompressed.reset();
+    }
+
+    private static volatile @Nullable ResponseCache cache;
+
+    /**
+     * @return Cache which is shared by all platforms or null if responses are not cached
+     */
+    public static @Nullable ResponseCache getCache() {
+        return cache;
+    }
+
+    /**
+     * @param responseCache Cache which is shared by all platforms or null to disable caching
+     * @see ResponseCache
+     */
+    public static void setCache(final @Nullable ResponseCache responseCache) {
+        cache = responseCache;
+    }
+
+    private static volatile Transport transport = new HttpTransport();
+
+    /**
+     * @return Transport which sends requests of all platforms
+     */
+    public static Transport getTransport() {
+        return transport;
+    }
+
+    /**
+     * @param t Transport which sends requests of all platforms
+     * @see HttpTransport
+     * @see RecordingTransport
+     * @see ReplayTransport
+     */
+    public static void setTransport(final Transport t) {
+        transport = Objects.requireNonNull(t);
+    }
+
     private static final Gson GSON = new Gson();
 
-    private static InputStream getPossiblyDecompressedStream(HttpURLConnection connection) throws IOException {
-        final InputStream inputStream = connection.getInputStream();
-        final String encoding = connection.getContentEncoding();
-        if (encoding != null && encoding.equalsIgnoreCase("gzip")) {
-            return new GZIPInputStream(inputStream);
+    private static final Executor EXECUTOR = Executors.newCachedThreadPool(r -> {
+        final Thread thread = new Thread(r, "Modding-IO");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * @return Executor which is used by asynchronous methods when no executor is given. Its threads are daemons, so they do not keep the application alive
+     */
+    public static Executor getDefaultExecutor() {
+        return EXECUTOR;
+    }
+
+    /**
+     * Runs the call on the executor
+     * @param call Blocking call which may throw {@code IOException}
+     * @param executor Executor to run the call on
+     * @return Future completed with the result of the call or with its exception
+     */
+    public static <T> CompletableFuture<T> supplyAsync(final Call<T> call, final Executor executor) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return call.call();
+            } catch (IOException e) {
+                throw new CompletionException(e);
+            }
+        }, executor);
+    }
+
+    /**
+     * Waits for the future and rethrows its failure as it would be thrown by the blocking method
+     * @param future Future to wait for
+     * @return Result of the future
+     * @throws IOException If the future was completed with {@code IOException}
+     */
+    public static <T> T join(final CompletableFuture<T> future) throws IOException {
+        try {
+            return future.join();
+        } catch (CompletionException | CancellationException e) {
+            final Throwable cause = e.getCause() != null ? e.getCause() : e;
+            if (cause instanceof IOException io) throw io;
+            if (cause instanceof RuntimeException r) throw r;
+            if (cause instanceof Error r) throw r;
+            throw new IOException(cause);
         }
-        return inputStream;
     }
 
-    private String connect(final String endpoint, @Nullable final String key) throws IOException {
-        final URL url = new URL(getUrl() + endpoint);
-        final HttpURLConnection con = (HttpURLConnection) url.openConnection();
-        con.setRequestMethod("GET");
-        con.setRequestProperty("User-Agent", "ModdingLibrary/1.0");
+    private static final String ACCEPT_ENCODING = "gzip, deflate";
 
-        con.setConnectTimeout(20000);
-        con.setReadTimeout(20000);
+    private static InputStream getPossiblyDecompressedStream(@Nullable String encoding, InputStream inputStream) throws IOException {
+        if (encoding == null) return inputStream;
+        return switch (encoding.trim().toLowerCase()) {
+            case "gzip", "x-gzip" -> new GZIPInputStream(inputStream, 8192);
+            case "deflate" -> getInflaterStream(inputStream);
+            case "", "identity" -> inputStream;
+            default -> throw new IOException("Unsupported content encoding " + encoding);
+        };
+    }
+
+    /**
+     * "deflate" should be zlib-wrapped, but some servers send raw deflate data, so the header is checked before inflating
+     */
+    private static InputStream getInflaterStream(InputStream inputStream) throws IOException {
+        final PushbackInputStream in = new PushbackInputStream(inputStream, 2);
+        final byte[] header = in.readNBytes(2);
+        in.unread(header);
+        final boolean zlib = header.length == 2
+                && (header[0] & 0x0F) == 8
+                && (((header[0] & 0xFF) << 8) | (header[1] & 0xFF)) % 31 == 0;
+        return new InflaterInputStream(in, new Inflater(!zlib), 8192);
+    }
 
+    private static Charset getCharset(Response response) {
+        final String type = response.header("Content-Type").orElse("");
+        for (String parameter : type.split(";")) {
+            final String p = parameter.trim();
+            if (p.regionMatches(true, 0, "charset=", 0, 8)) {
+                try {
+                    return Charset.forName(p.substring(8).replace("\"", "").trim());
+                } catch (IllegalCharsetNameException | UnsupportedCharsetException ignored) {}
+            }
+        }
+        return StandardCharsets.UTF_8;
+    }
+
+    private Response connect(final String endpoint, @Nullable final String key, @Nullable final ResponseCache.Entry cached) throws IOException {
+        return connect(endpoint, key, cached, null);
+    }
+
+    private Response connect(final String endpoint, @Nullable final String key, @Nullable final ResponseCache.Entry cached, @Nullable final JsonElement body) throws IOException {
+        final Map<String, String> headers = new HashMap<>();
         if(isKeyRequired()) {
             if(key != null) {
-                con.setRequestProperty("x-api-key", key);
+                headers.put("x-api-key", key);
             } else {
                 throw new IOException("API key is required");
             }
         }
 
-        if(this != SPIGET) {
-            final int code = con.getResponseCode();
-            if (code == HttpURLConnection.HTTP_OK) {
-                final BufferedReader in = new BufferedReader(new InputStreamReader(con.getInputStream()));
-                String inputLine;
-                StringBuilder response = new StringBuilder();
-                while ((inputLine = in.readLine()) != null) {
-                    response.append(inputLine);
-                }
-                in.close();
-                System.out.println(response.toString());
-                return response.toString();
-            } else {
-                throw new RuntimeException("Failed to fetch data: HTTP error code " + code);
-            }
+        headers.put("Accept-Encoding", ACCEPT_ENCODING);
+
+        if(cached != null) {
+            if(cached.etag() != null) headers.put("If-None-Match", cached.etag());
+            if(cached.modified() != null) headers.put("If-Modified-Since", cached.modified());
+        }
+
+        final Response response;
+        if (body == null) {
+            response = transport.send(Request.get(this, endpoint, headers));
         } else {
-            con.setRequestProperty("Accept-Encoding", "gzip");
+            headers.put("Content-Type", "application/json");
+            response = transport.send(new Request(this, "POST", endpoint, headers, GSON.toJson(body).getBytes(StandardCharsets.UTF_8)));
+        }
+        final int code = response.status();
+        if (code == HttpURLConnection.HTTP_OK) return response;
+        if (cached != null && code == HttpURLConnection.HTTP_NOT_MODIFIED) return response;
+        response.close();
 
-            try (final InputStream in = getPossiblyDecompressedStream(con);
-                 final ByteArrayOutputStream buffer = new ByteArrayOutputStream()) {
+        throw switch (code) {
+            case HttpURLConnection.HTTP_NOT_FOUND, HttpURLConnection.HTTP_GONE -> new NotFoundException(this, endpoint, code);
+            case 429 -> new RateLimitException(this, endpoint, code, response.getRetryAfter());
+            default -> new HttpStatusException(this, endpoint, code);
+        };
+    }
 
-                final byte[] chunk = new byte[4096];
-                int bytesRead;
-                while ((bytesRead = in.read(chunk)) != -1) {
-                    buffer.write(chunk, 0, bytesRead);
-                }
+    /**
+     * Concurrent requests of the same endpoint with the same key share one fetch and its parsed result
+     */
+    private <T extends JsonElement> T decode(final String endpoint, final @Nullable String key, final Class<T> type) throws IOException {
+        return type.cast(inFlight.execute(type.getSimpleName() + ' ' + endpoint + '\n' + key, () -> load(endpoint, key, type)));
+    }
 
-                final String response = buffer.toString(StandardCharsets.UTF_8);
-                con.disconnect();
-                return response;
-            } catch (IOException e) {
-                con.disconnect();
-                throw e;
+    /**
+     * Serves the response from the cache if it is fresh, otherwise fetches or revalidates it
+     */
+    private <T extends JsonElement> T load(final String endpoint, final @Nullable String key, final Class<T> type) throws IOException {
+        final ResponseCache c = cache;
+        if (c == null) return fetch(endpoint, key, type, null, null);
+
+        final ResponseCache.Entry entry = c.get(this, endpoint, key);
+        if (entry != null && c.isFresh(entry, endpoint)) return parse(endpoint, entry, type);
+        return fetch(endpoint, key, type, c, entry != null && entry.isRevalidatable() ? entry : null);
+    }
+
+    private <T extends JsonElement> T parse(final String endpoint, final ResponseCache.Entry entry, final Class<T> type) throws IOException {
+        final long start = System.nanoTime();
+        final T result = read(endpoint, new ByteArrayInputStream(entry.body()), Charset.forName(entry.charset()), type);
+        final ResponseListener l = listener;
+        if (l != null) l.onResponse(this, endpoint, 0, Duration.ofNanos(System.nanoTime() - start));
+        return result;
+    }
+
+    /**
+     * Decodes the body straight from the stream of the connection, so the response is never held as a {@code String}.
+     * Only if the cache is used, the decompressed body is buffered to be stored
+     */
+    private <T extends JsonElement> T fetch(final String endpoint, final @Nullable String key, final Class<T> type,
+                                            final @Nullable ResponseCache c, final @Nullable ResponseCache.Entry cached) throws IOException {
+        final Response response = connect(endpoint, key, cached);
+        if (cached != null && response.status() == HttpURLConnection.HTTP_NOT_MODIFIED) {
+            response.body().close();
+            final ResponseCache.Entry revalidated = cached.revalidated();
+            c.put(this, endpoint, key, revalidated);
+            return parse(endpoint, revalidated, type);
+        }
+
+        final long start = System.nanoTime();
+        final Charset charset = getCharset(response);
+        final CountingInputStream counter = new CountingInputStream(response.body());
+        CountingInputStream inflated = null;
+        try {
+            inflated = new CountingInputStream(getPossiblyDecompressedStream(response.header("Content-Encoding").orElse(null), counter));
+            final T result;
+            if (c == null) {
+                result = read(endpoint, inflated, charset, type);
+            } else {
+                final byte[] body = inflated.readAllBytes();
+                result = read(endpoint, new ByteArrayInputStream(body), charset, type);
+                c.put(this, endpoint, key, new ResponseCache.Entry(
+                        body, charset.name(),
+                        response.header("ETag").orElse(null),
+                        response.header("Last-Modified").orElse(null),
+                        System.currentTimeMillis()
+                ));
+            }
+            final ResponseListener l = listener;
+            if (l != null) l.onResponse(this, endpoint, counter.count, Duration.ofNanos(System.nanoTime() - start));
+            return result;
+        } finally {
+            compressed.add(counter.count);
+            if (inflated != null) {
+                decompressed.add(inflated.count);
+                inflated.close();
+            } else {
+                counter.close();
             }
         }
     }
 
+    private static <T extends JsonElement> T read(final String endpoint, final InputStream in, final Charset charset, final Class<T> type) throws IOException {
+        try {
+            final T result = GSON.fromJson(new JsonReader(new BufferedReader(new InputStreamReader(in, charset))), type);
+            if (result == null) throw new IOException("Empty response of " + endpoint);
+            return result;
+        } catch (JsonParseException e) {
+            throw new IOException("Malformed response of " + endpoint, e);
+        }
+    }
+
     public final JsonObject getResponse(final String endpoint, final @Nullable String key) throws IOException {
-        return GSON.fromJson(connect(endpoint, key), JsonObject.class);
+        return decode(endpoint, key, JsonObject.class);
     }
 
     public final JsonArray getResponseArray(final String endpoint, final @Nullable String key) throws IOException {
-        return GSON.fromJson(connect(endpoint, key), JsonArray.class);
+        return decode(endpoint, key, JsonArray.class);
+    }
+
+    /**
+     * Sends a {@code POST} request with a JSON body. Such responses are neither cached nor coalesced
+     * @param endpoint Endpoint relative to the base URL of the platform
+     * @param body Body of the request
+     * @param key Optional key which is required for some platforms
+     * @return Decoded response
+     * @throws IOException If the response can not be fetched or decoded
+     */
+    public final JsonObject postResponse(final String endpoint, final JsonElement body, final @Nullable String key) throws IOException {
+        final Response response = connect(endpoint, key, null, body);
+        final CountingInputStream counter = new CountingInputStream(response.body());
+        CountingInputStream inflated = null;
+        try {
+            inflated = new CountingInputStream(getPossiblyDecompressedStream(response.header("Content-Encoding").orElse(null), counter));
+            return read(endpoint, inflated, getCharset(response), JsonObject.class);
+        } finally {
+            compressed.add(counter.count);
+            if (inflated != null) {
+                decompressed.add(inflated.count);
+                inflated.close();
+            } else {
+                counter.close();
+            }
+        }
+    }
+
+    public final CompletableFuture<JsonObject> getResponseAsync(final String endpoint, final @Nullable String key, final Executor executor) {
+        return supplyAsync(() -> getResponse(endpoint, key), executor);
+    }
+
+    public final CompletableFuture<JsonArray> getResponseArrayAsync(final String endpoint, final @Nullable String key, final Executor executor) {
+        return supplyAsync(() -> getResponseArray(endpoint, key), executor);
+    }
+
+    /**
+     * Listener of decoded responses. Can be used to collect metrics of the platform
+     */
+    @FunctionalInterface
+    public interface ResponseListener {
+        /**
+         * @param platform Platform which has sent the response
+         * @param endpoint Requested endpoint
+         * @param bytes Number of bytes of the body as they were received
+         * @param time Time spent on reading and decoding the body
+         */
+        void onResponse(Platform platform, String endpoint, long bytes, Duration time);
+    }
+
+    private static final class CountingInputStream extends FilterInputStream {
+        private long count;
+
+        private CountingInputStream(final InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            final int b = super.read();
+            if (b != -1) count++;
+            return b;
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) throws IOException {
+            final int n = super.read(b, off, len);
+            if (n > 0) count += n;
+            return n;
+        }
+
+        @Override
+        public long skip(final long n) throws IOException {
+            final long skipped = super.skip(n);
+            count += skipped;
+            return skipped;
+        }
+    }
+
+    /**
+     * Blocking call to the platform which may throw {@code IOException}
+     * @param <T> Type of the result
+     */
+    @FunctionalInterface
+    public interface Call<T> {
+        T call() throws IOException;
     }
 
     /**
@@ -0,0 +1,14 @@
+package net.ovonsame.modding.enumeration;
+
+/**
+ * Enumeration {@code ReleaseType} represents all types of Minecraft versions
+ * @see net.ovonsame.modding.GameVersion
+ */
+public enum ReleaseType {
+    RELEASE,
+    RELEASE_CANDIDATE,
+    PRE_RELEASE,
+    SNAPSHOT,
+    BETA,
+    ALPHA
+}
@@ -1,5 +1,6 @@
 package net.ovonsame.modding.interfaces;
 
+import net.ovonsame.modding.FileIndex;
 import net.ovonsame.modding.Version;
 import net.ovonsame.modding.enumeration.*;
 import net.ovonsame.modding.enumeration.category.*;
@@ -12,8 +13,15 @@ import java.io.FileWriter;
 import java.io.IOException;
 import java.net.URL;
 import java.util.*;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 public interface Integration extends Iterable<IntegrationFile> {
+    /**
+     * @return Iterator of the files
+     * @throws java.io.UncheckedIOException If the files can not be fetched, also from {@code hasNext()}
+     * @see #getFiles()
+     */
     default @NotNull Iterator<IntegrationFile> iterator() {
         return getFiles().iterator();
     }
@@ -23,6 +31,16 @@ public interface Integration extends Iterable<IntegrationFile> {
      */
     String getTitle();
 
+    /**
+     * Groups of data which need their own requests are fetched on first access. If the caller knows it needs several of them,
+     * this method fetches them in parallel. Groups which are already fetched or are a part of the main response are skipped.
+     * Integrations of the library fetch them on the executor which they were resolved with, for example the one given to {@code Modding.getIntegrationAsync}
+     * @param parts Groups of data to fetch
+     * @throws IOException If some of the groups can not be fetched
+     * @see Part
+     */
+    default void prefetch(final EnumSet<Part> parts) throws IOException {}
+
     /**
      * @return A slug of the integration.
      */
@@ -54,11 +72,10 @@ public interface Integration extends Iterable<IntegrationFile> {
      */
     @NotNull
     default Organisation getOrganisation() {
-        var a = getAuthors();
         return new Organisation() {
             @Override
             public Author getOwner() {
-                return a.iterator().next();
+                return getAuthors().iterator().next();
             }
 
             @Override
@@ -66,9 +83,19 @@ public interface Integration extends Iterable<IntegrationFile> {
                 return getCleanTitle() + " Organisation";
             }
 
+            @Override
+            public int size() {
+                return getAuthorIds().size();
+            }
+
+            @Override
+            public Set<String> getIds() {
+                return getAuthorIds();
+            }
+
             @Override
             public @NotNull Iterator<Author> iterator() {
-                return a.iterator();
+                return getAuthors().iterator();
             }
         };
     }
@@ -85,6 +112,16 @@ public interface Integration extends Iterable<IntegrationFile> {
                 return getCleanTitle() + " Team";
             }
 
+            @Override
+            public int size() {
+                return getAuthorIds().size();
+            }
+
+            @Override
+            public Set<String> getIds() {
+                return getAuthorIds();
+            }
+
             @Override
             public @NotNull Iterator<Author> iterator() {
                 return getAuthors().iterator();
@@ -93,11 +130,22 @@ public interface Integration extends Iterable<IntegrationFile> {
     }
 
     /**
+     * Authors are resolved at most once per integration, so the set is shared by {@link #getTeam()} and {@link #getOrganisation()}
      * @return Set of all authors
      * @see Author
      */
     Set<Author> getAuthors();
 
+    /**
+     * Identifiers are taken from the project data where the platform provides them, so usually no authors are fetched
+     * @return Identifiers of all authors in the same order as {@link #getAuthors()}
+     */
+    default Set<String> getAuthorIds() {
+        final Set<String> ids = new LinkedHashSet<>();
+        for (Author a : getAuthors()) ids.add(a.getId());
+        return Collections.unmodifiableSet(ids);
+    }
+
     /**
      * @return A date when the integration was published
      * @see Date
@@ -123,7 +171,7 @@ public interface Integration extends Iterable<IntegrationFile> {
     IntegrationType getType();
 
     /**
-     * @return All categories of the integration
+     * @return All categories of the integration. Unmodifiable, wrappers of the library return a {@link net.ovonsame.modding.CategorySet}
      * @see ICategory
      * @see AddonCategory
      * @see ModCategory
@@ -135,7 +183,7 @@ public interface Integration extends Iterable<IntegrationFile> {
      * @see ResourcepackCategory
      * @see CustomizationCategory
      */
-    Set<ICategory> getCategories();
+    @Unmodifiable Set<ICategory> getCategories();
 
     /**
      * @return The only status of the integration
@@ -191,11 +239,52 @@ public interface Integration extends Iterable<IntegrationFile> {
     URL[] getScreenshots();
 
     /**
+     * Files are fetched on first access, and platforms which list files by pages fetch them on demand while the collection is iterated,
+     * so iteration which stops early does not fetch all files. Unlike descriptions and authors, which fall back to empty values,
+     * files which can not be fetched are never replaced by an empty collection, so a failed listing is not mistaken for an integration without files
      * @return All files of the integration with maximum size of 10000 files. Unmodifiable by default
+     * @throws java.io.UncheckedIOException If the files can not be fetched, from this method, {@code size()} or iteration of the collection
      * @see IntegrationFile
      */
     @Unmodifiable Collection<IntegrationFile> getFiles();
 
+    /**
+     * Wrappers of the library build the index once, on the first call. The default implementation builds it on every call
+     * @return Index of the files by game version and by loader
+     * @throws java.io.UncheckedIOException If the files can not be fetched
+     * @see FileIndex
+     */
+    default FileIndex getFileIndex() {
+        return FileIndex.of(getFiles());
+    }
+
+    /**
+     * @param version Version
+     * @return Files which support the version from the newest
+     * @throws java.io.UncheckedIOException If the files can not be fetched
+     */
+    default @Unmodifiable List<IntegrationFile> filesFor(final Version version) {
+        return getFileIndex().filesFor(version);
+    }
+
+    /**
+     * @param version Version
+     * @return The newest file which supports the version or null if there is none
+     * @throws java.io.UncheckedIOException If the files can not be fetched
+     */
+    default @Nullable IntegrationFile latestFileFor(final Version version) {
+        return getFileIndex().latestFileFor(version);
+    }
+
+    /**
+     * @return Lazy sequential stream of the files which fetches the next page only when it is needed
+     * @throws java.io.UncheckedIOException If the files can not be fetched, also from operations of the stream
+     * @see #getFiles()
+     */
+    default Stream<IntegrationFile> files() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
     /**
      * @return The Platform where the integration was taken
      * @see Platform
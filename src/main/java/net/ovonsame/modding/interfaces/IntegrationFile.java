@@ -1,9 +1,11 @@
 package net.ovonsame.modding.interfaces;
 
+import net.ovonsame.modding.Compatibility;
 import net.ovonsame.modding.Version;
 import net.ovonsame.modding.enumeration.IntegrationType;
 import net.ovonsame.modding.enumeration.Side;
 import net.ovonsame.modding.enumeration.loader.*;
+import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.Unmodifiable;
 
 import java.net.URL;
@@ -25,6 +27,15 @@ public interface IntegrationFile {
      */
     URL getURL();
 
+    /**
+     * @return Hashes of the file given by the platform as lower case hexadecimal strings by names of their {@link java.security.MessageDigest} algorithms,
+     * like {@code SHA-1}. Empty if the platform does not give them
+     */
+    @Unmodifiable
+    default Map<String, String> getHashes() {
+        return Map.of();
+    }
+
     /**
      * @return The size of the file
      */
@@ -78,6 +89,17 @@ public interface IntegrationFile {
      */
     @Unmodifiable Collection<IntegrationFile> getDependencies();
 
+    /**
+     * Identifiers of the required integrations without fetching them. By default they are taken from {@code getDependencies()}
+     * @return The unmodifiable map of identifiers of the required integrations to identifiers of the required files, which are null if the platform does not give them
+     */
+    @Unmodifiable
+    default Map<String, @Nullable String> getRequirements() {
+        final Map<String, String> requirements = new LinkedHashMap<>();
+        for (IntegrationFile f : getDependencies()) requirements.put(f.getParentIntegration().getId(), f.getId());
+        return Collections.unmodifiableMap(requirements);
+    }
+
     /**
      * @return The identifier of the integration
      */
@@ -98,23 +120,20 @@ public interface IntegrationFile {
         return Collections.unmodifiableList(available);
     }
 
+    /**
+     * @return Versions supported by this file as bit vectors, which allows to test them without creating {@code Version}s
+     * @see Compatibility
+     */
+    default Compatibility getCompatibility() {
+        return Compatibility.of(this);
+    }
+
     /**
      * Combines all given versions and loaders from {@code getPossibleLoaders()} into one collection
-     * @return Unmodifiable collection of the possible versions for this integration.
+     * @return Unmodifiable collection of the possible versions for this integration, which is backed by {@code getCompatibility()}
      */
     @Unmodifiable
     default Collection<Version> getPossibleVersions() {
-        final var versions = getVersions();
-        final List<ILoader> loaders = new ArrayList<>(Arrays.stream(getLoaders()).toList());
-
-        if(loaders.contains(ILoader.ANY) && loaders.size() <= 1) loaders.addAll(getPossibleLoaders());
-
-        final Version[] v = new Version[loaders.size() * versions.length];
-        for(int i = 0; i < loaders.size(); i++) {
-            for(int j = 0; j < versions.length; j++) {
-                v[i * versions.length + j] = new Version(loaders.get(i), versions[j]);
-            }
-        }
-        return Collections.unmodifiableCollection(Arrays.asList(v));
+        return getCompatibility().getVersions();
     }
 }
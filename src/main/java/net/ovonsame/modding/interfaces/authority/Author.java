@@ -7,11 +7,14 @@ import java.net.URL;
 import java.util.Date;
 
 /**
- * Interface {@code Author} represents a person registered on a platform who has created a Minecraft integration
+ * Interface {@code Author} represents a person registered on a platform who has created a Minecraft integration.
+ * Authors of integrations may be fetched on first access of data which the integration does not embed. If they can not be fetched,
+ * every such getter throws {@link java.io.UncheckedIOException}, none of them falls back to a default value
  */
 public interface Author {
     /**
      * @return Nullable {@code URL} of the author's avatar
+     * @throws java.io.UncheckedIOException If the author is fetched on first access and can not be fetched
      */
     @Nullable URL getAvatar();
 
@@ -22,11 +25,13 @@ public interface Author {
 
     /**
      * @return A name of the author
+     * @throws java.io.UncheckedIOException If the author is fetched on first access and can not be fetched
      */
     String getName();
 
     /**
      * @return A date when the author was registered
+     * @throws java.io.UncheckedIOException If the author is fetched on first access and can not be fetched
      */
     Date getRegistered();
 
@@ -1,5 +1,8 @@
 package net.ovonsame.modding.interfaces.authority;
 
+import java.util.LinkedHashSet;
+import java.util.Set;
+
 /**
  * {@code Team} interface is an @{link Iterable} of {@link Author} and is a named group of authors
  */
@@ -8,4 +11,20 @@ public interface Team extends Iterable<Author> {
      * @return The name of the team
      */
     String getName();
+
+    /**
+     * @return Number of authors in the team. It may be known without fetching the authors
+     */
+    default int size() {
+        return getIds().size();
+    }
+
+    /**
+     * @return Identifiers of the authors in the team. They may be known without fetching the authors
+     */
+    default Set<String> getIds() {
+        final Set<String> ids = new LinkedHashSet<>();
+        for (Author a : this) ids.add(a.getId());
+        return ids;
+    }
 }
@@ -0,0 +1,203 @@
+package net.ovonsame.modding.network;
+
+import net.ovonsame.modding.enumeration.Platform;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * Class {@code CircuitBreaker} stops requests to an unhealthy platform, so callers fail fast instead of waiting for timeouts.
+ * It records outcomes of the last calls, and when too many of them have failed or were slow, the circuit opens and calls are rejected.
+ * After a while a few probe calls are let through: if they succeed the circuit closes, otherwise it opens again.
+ */
+public final class CircuitBreaker {
+    private final Platform platform;
+    private Settings settings;
+
+    private State state = State.CLOSED;
+    private byte[] outcomes;
+    private int position;
+    private int recorded;
+    private int failures;
+    private int slow;
+
+    private long opened;
+    private int probes;
+    private int succeeded;
+
+    public CircuitBreaker(final Platform platform, final Settings settings) {
+        this.platform = platform;
+        setSettings(settings);
+    }
+
+    /**
+     * @return State of the circuit. Open circuit which has waited long enough is shown as half-open
+     */
+    public synchronized State getState() {
+        if (state == State.OPEN && System.nanoTime() - opened >= settings.open().toNanos()) return State.HALF_OPEN;
+        return state;
+    }
+
+    public synchronized Settings getSettings() {
+        return settings;
+    }
+
+    /**
+     * Changes the settings and closes the circuit
+     * @param settings New settings
+     */
+    public synchronized void setSettings(final Settings settings) {
+        this.settings = Objects.requireNonNull(settings);
+        reset();
+    }
+
+    /**
+     * @return Rate of failed calls among the recorded ones from 0 to 1
+     */
+    public synchronized double getFailureRate() {
+        return recorded == 0 ? 0 : (double) failures / recorded;
+    }
+
+    /**
+     * @return Rate of slow calls among the recorded ones from 0 to 1
+     */
+    public synchronized double getSlowCallRate() {
+        return recorded == 0 ? 0 : (double) slow / recorded;
+    }
+
+    /**
+     * Closes the circuit and forgets all recorded calls
+     */
+    public synchronized void reset() {
+        state = State.CLOSED;
+        outcomes = new byte[settings.window()];
+        position = 0;
+        recorded = 0;
+        failures = 0;
+        slow = 0;
+        probes = 0;
+        succeeded = 0;
+    }
+
+    /**
+     * Asks for a permission to make a call
+     * @throws CircuitOpenException If the circuit is open or all probes of the half-open circuit are in flight
+     */
+    public synchronized void acquire() throws CircuitOpenException {
+        if (state == State.OPEN) {
+            final long waited = System.nanoTime() - opened;
+            if (waited < settings.open().toNanos()) {
+                throw new CircuitOpenException(platform, settings.open().minusNanos(waited));
+            }
+            state = State.HALF_OPEN;
+            probes = 0;
+            succeeded = 0;
+        }
+        if (state == State.HALF_OPEN) {
+            if (probes >= settings.probes()) throw new CircuitOpenException(platform, Duration.ZERO);
+            probes++;
+        }
+    }
+
+    /**
+     * @param duration Duration of the successful call
+     */
+    public synchronized void onSuccess(final Duration duration) {
+        record(false, duration);
+    }
+
+    /**
+     * @param duration Duration of the failed call
+     */
+    public synchronized void onFailure(final Duration duration) {
+        record(true, duration);
+    }
+
+    /**
+     * Returns the permission without recording an outcome, for example when the call was interrupted
+     */
+    public synchronized void release() {
+        if (state == State.HALF_OPEN && probes > 0) probes--;
+    }
+
+    private void record(final boolean failure, final Duration duration) {
+        final boolean slowCall = duration.compareTo(settings.slowCall()) >= 0;
+        if (state == State.HALF_OPEN) {
+            if (failure || slowCall) {
+                open();
+            } else if (++succeeded >= settings.probes()) {
+                reset();
+            }
+            return;
+        }
+        if (state == State.OPEN) return;
+
+        final byte outcome = (byte) ((failure ? 1 : 0) | (slowCall ? 2 : 0));
+        if (recorded == outcomes.length) {
+            final byte old = outcomes[position];
+            if ((old & 1) != 0) failures--;
+            if ((old & 2) != 0) slow--;
+        } else {
+            recorded++;
+        }
+        outcomes[position] = outcome;
+        position = (position + 1) % outcomes.length;
+        if (failure) failures++;
+        if (slowCall) slow++;
+
+        if (recorded >= settings.minimum()
+                && (getFailureRate() >= settings.failureRate() || getSlowCallRate() >= settings.slowCallRate())) {
+            open();
+        }
+    }
+
+    private void open() {
+        state = State.OPEN;
+        opened = System.nanoTime();
+        outcomes = new byte[settings.window()];
+        position = 0;
+        recorded = 0;
+        failures = 0;
+        slow = 0;
+    }
+
+    /**
+     * Enumeration {@code State} represents states of the circuit
+     */
+    public enum State {
+        /**
+         * Calls are allowed and recorded
+         */
+        CLOSED,
+        /**
+         * Calls are rejected
+         */
+        OPEN,
+        /**
+         * A limited number of probe calls is allowed to check whether the platform has recovered
+         */
+        HALF_OPEN
+    }
+
+    /**
+     * Record class {@code Settings} defines when the circuit opens and how it recovers
+     * @param window Number of the last calls which are recorded
+     * @param minimum Minimum number of recorded calls before the rates are evaluated
+     * @param failureRate Rate of failed calls from 0 to 1 which opens the circuit
+     * @param slowCallRate Rate of slow calls from 0 to 1 which opens the circuit
+     * @param slowCall Duration after which a call is considered slow
+     * @param open Time the circuit stays open before probing the platform
+     * @param probes Number of probe calls in the half-open state
+     */
+    public record Settings(int window, int minimum, double failureRate, double slowCallRate, Duration slowCall, Duration open, int probes) {
+        /**
+         * Opens after a half of the last 20 calls have failed or have taken more than 10 seconds, and probes with 3 calls after 30 seconds
+         */
+        public static final Settings DEFAULT = new Settings(20, 10, 0.5, 0.5, Duration.ofSeconds(10), Duration.ofSeconds(30), 3);
+
+        public Settings {
+            if (window < 1 || minimum < 1 || probes < 1) throw new IllegalArgumentException("Window, minimum and probes must be positive");
+            if (minimum > window) throw new IllegalArgumentException("Minimum can not be greater than window");
+        }
+    }
+}
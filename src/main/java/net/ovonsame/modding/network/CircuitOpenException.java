@@ -0,0 +1,39 @@
+package net.ovonsame.modding.network;
+
+import net.ovonsame.modding.enumeration.Platform;
+
+import java.io.IOException;
+import java.io.Serial;
+import java.time.Duration;
+
+/**
+ * Exception {@code CircuitOpenException} is thrown without making a request when the circuit breaker of the platform is open
+ * @see CircuitBreaker
+ */
+public class CircuitOpenException extends IOException {
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    private final Platform platform;
+    private final Duration remaining;
+
+    public CircuitOpenException(final Platform platform, final Duration remaining) {
+        super("Platform " + platform + " is unavailable, requests are rejected for " + remaining.toMillis() + " ms");
+        this.platform = platform;
+        this.remaining = remaining;
+    }
+
+    /**
+     * @return Platform which is considered unhealthy
+     */
+    public Platform getPlatform() {
+        return platform;
+    }
+
+    /**
+     * @return Time until the circuit lets probe requests through
+     */
+    public Duration getRemaining() {
+        return remaining;
+    }
+}
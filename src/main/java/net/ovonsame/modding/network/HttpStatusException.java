@@ -0,0 +1,55 @@
+package net.ovonsame.modding.network;
+
+import net.ovonsame.modding.enumeration.Platform;
+
+import java.io.IOException;
+import java.io.Serial;
+
+/**
+ * Exception {@code HttpStatusException} is thrown when a platform answers with an unsuccessful status code
+ * @see NotFoundException
+ * @see RateLimitException
+ */
+public class HttpStatusException extends IOException {
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    private final Platform platform;
+    private final String endpoint;
+    private final int status;
+
+    public HttpStatusException(final Platform platform, final String endpoint, final int status) {
+        super("Failed to fetch " + platform + endpoint + ": HTTP error code " + status);
+        this.platform = platform;
+        this.endpoint = endpoint;
+        this.status = status;
+    }
+
+    /**
+     * @return Platform which has answered
+     */
+    public Platform getPlatform() {
+        return platform;
+    }
+
+    /**
+     * @return Requested endpoint
+     */
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    /**
+     * @return HTTP status code of the answer
+     */
+    public int getStatus() {
+        return status;
+    }
+
+    /**
+     * @return Whether the same request may succeed later
+     */
+    public boolean isRetryable() {
+        return status >= 500;
+    }
+}
@@ -0,0 +1,141 @@
+package net.ovonsame.modding.network;
+
+import net.ovonsame.modding.enumeration.Platform;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Class {@code HttpTransport} is the live transport which sends requests over the network.
+ * Every platform has its own pooled HTTP/2 client, so connections to its base URL are kept alive and multiplexed between requests.
+ * Requests wait for the {@link RateLimiter} and pass the {@link CircuitBreaker} of the platform, and throttled or failed ones are retried according to its {@link RetryPolicy}.
+ */
+public class HttpTransport implements Transport {
+    /**
+     * User agent of every request which the library sends
+     */
+    public static final String USER_AGENT = "ModdingLibrary/1.0";
+
+    private final EnumMap<Platform, String> urls = new EnumMap<>(Platform.class);
+    private final EnumMap<Platform, Client> clients = new EnumMap<>(Platform.class);
+
+    /**
+     * Transport which sends requests to the base URLs of the platforms
+     */
+    public HttpTransport() {
+        this(Map.of());
+    }
+
+    /**
+     * @param urls Base URLs which replace the ones of the platforms, for example to send requests to a local stub
+     */
+    public HttpTransport(final Map<Platform, String> urls) {
+        for (Platform platform : Platform.values()) this.urls.put(platform, urls.getOrDefault(platform, platform.getUrl()));
+    }
+
+    /**
+     * @param platform Platform of the request
+     * @return Base URL where requests of the platform are sent
+     */
+    public String getUrl(final Platform platform) {
+        return urls.get(platform);
+    }
+
+    @Override
+    public Response send(final Request request) throws IOException {
+        final Platform platform = request.platform();
+        final HttpRequest.Builder builder;
+        try {
+            builder = HttpRequest.newBuilder(URI.create(getUrl(platform) + request.endpoint()));
+        } catch (IllegalArgumentException e) {
+            throw new IOException("Invalid endpoint " + request.endpoint(), e);
+        }
+        builder.method(request.method(), request.body() == null
+                        ? HttpRequest.BodyPublishers.noBody()
+                        : HttpRequest.BodyPublishers.ofByteArray(request.body()))
+                .timeout(platform.getReadTimeout())
+                .header("User-Agent", USER_AGENT);
+        request.headers().forEach(builder::header);
+
+        final HttpRequest built = builder.build();
+        final HttpClient client = getClient(platform);
+        final RateLimiter limiter = platform.getRateLimiter();
+        final CircuitBreaker breaker = platform.getCircuitBreaker();
+        final RetryPolicy policy = platform.getRetryPolicy();
+
+        for (int attempt = 1; ; attempt++) {
+            breaker.acquire();
+            long start = System.nanoTime();
+            final HttpResponse<InputStream> con;
+            try {
+                limiter.acquire();
+                start = System.nanoTime();
+                con = client.send(built, HttpResponse.BodyHandlers.ofInputStream());
+            } catch (InterruptedException e) {
+                breaker.release();
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while fetching " + request.endpoint());
+            } catch (InterruptedIOException e) {
+                breaker.release();
+                throw e;
+            } catch (IOException e) {
+                breaker.onFailure(Duration.ofNanos(System.nanoTime() - start));
+                throw e;
+            }
+
+            final int code = con.statusCode();
+            if (code >= 500) breaker.onFailure(Duration.ofNanos(System.nanoTime() - start));
+            else breaker.onSuccess(Duration.ofNanos(System.nanoTime() - start));
+
+            final Response response = new Response(code, con.headers().map(), con.body());
+            final Duration reset = response.getRateLimitReset();
+            if (reset != null) limiter.pause(reset);
+
+            if (code != 429 && code < 500 || attempt >= policy.attempts()) return response;
+            final Duration after = response.getRetryAfter();
+            if (after != null && after.compareTo(policy.maxDelay()) > 0) return response;
+            response.close();
+
+            final Duration delay = after != null ? after : policy.getDelay(attempt);
+            if (code == 429) limiter.pause(delay);
+            try {
+                Thread.sleep(delay);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting to retry " + request.endpoint());
+            }
+        }
+    }
+
+    /**
+     * Client is built again when the connect timeout of the platform has changed. The replaced client is shut down,
+     * requests which it is already sending are completed and its idle connections are closed
+     */
+    private HttpClient getClient(final Platform platform) {
+        final Duration timeout = platform.getConnectTimeout();
+        final Client replaced;
+        final HttpClient client;
+        synchronized (clients) {
+            final Client c = clients.get(platform);
+            if (c != null && c.timeout().equals(timeout)) return c.client();
+            client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_2)
+                    .followRedirects(HttpClient.Redirect.NORMAL)
+                    .connectTimeout(timeout)
+                    .build();
+            replaced = clients.put(platform, new Client(client, timeout));
+        }
+        if (replaced != null) replaced.client().shutdown();
+        return client;
+    }
+
+    private record Client(HttpClient client, Duration timeout) {}
+}
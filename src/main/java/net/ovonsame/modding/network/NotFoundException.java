@@ -0,0 +1,17 @@
+package net.ovonsame.modding.network;
+
+import net.ovonsame.modding.enumeration.Platform;
+
+import java.io.Serial;
+
+/**
+ * Exception {@code NotFoundException} is thrown when the requested integration, file or author does not exist on the platform
+ */
+public class NotFoundException extends HttpStatusException {
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    public NotFoundException(final Platform platform, final String endpoint, final int status) {
+        super(platform, endpoint, status);
+    }
+}
@@ -0,0 +1,34 @@
+package net.ovonsame.modding.network;
+
+import net.ovonsame.modding.enumeration.Platform;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.Serial;
+import java.time.Duration;
+
+/**
+ * Exception {@code RateLimitException} is thrown when the platform is still throttling requests after all retries
+ */
+public class RateLimitException extends HttpStatusException {
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    private final @Nullable Duration retryAfter;
+
+    public RateLimitException(final Platform platform, final String endpoint, final int status, final @Nullable Duration retryAfter) {
+        super(platform, endpoint, status);
+        this.retryAfter = retryAfter;
+    }
+
+    /**
+     * @return Time the platform has asked to wait or null if it has not said
+     */
+    public @Nullable Duration getRetryAfter() {
+        return retryAfter;
+    }
+
+    @Override
+    public boolean isRetryable() {
+        return true;
+    }
+}
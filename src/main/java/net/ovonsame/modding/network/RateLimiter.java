@@ -0,0 +1,109 @@
+package net.ovonsame.modding.network;
+
+import java.io.InterruptedIOException;
+import java.time.Duration;
+
+/**
+ * Class {@code RateLimiter} is a token bucket which limits the rate of requests to a platform.
+ * The bucket holds up to the given number of permits and refills them evenly over the period, so short bursts are allowed.
+ * It can also be paused when the platform asks to slow down.
+ */
+public final class RateLimiter {
+    private int permits;
+    private double refill;
+    private double tokens;
+    /**
+     * Time of the last refill. Both times are values of {@link System#nanoTime()}, which may be zero or negative, so they are never compared with a sentinel
+     */
+    private long last;
+    /**
+     * Time until which no permits are given, it starts at the creation of the limiter
+     */
+    private long paused;
+
+    /**
+     * @param permits Number of requests allowed in the period
+     * @param period Period of time
+     */
+    public RateLimiter(final int permits, final Duration period) {
+        this.last = System.nanoTime();
+        this.paused = last;
+        setRate(permits, period);
+        this.tokens = permits;
+    }
+
+    /**
+     * @param permits Number of requests allowed in the period
+     * @param period Period of time
+     */
+    public synchronized void setRate(final int permits, final Duration period) {
+        if (permits <= 0 || period.isNegative() || period.isZero()) throw new IllegalArgumentException("Rate must be positive");
+        refill();
+        this.permits = permits;
+        this.refill = (double) permits / period.toNanos();
+        this.tokens = Math.min(tokens, permits);
+    }
+
+    /**
+     * @return Number of requests allowed in a second
+     */
+    public synchronized double getRate() {
+        return refill * 1_000_000_000L;
+    }
+
+    /**
+     * Waits until a permit is available and takes it
+     * @throws InterruptedIOException If the thread was interrupted while waiting
+     */
+    public void acquire() throws InterruptedIOException {
+        while (true) {
+            final long wait;
+            synchronized (this) {
+                wait = reserve();
+            }
+            if (wait <= 0) return;
+            try {
+                Thread.sleep(Duration.ofNanos(wait));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting for a permit");
+            }
+        }
+    }
+
+    /**
+     * @return Whether a permit was available and was taken
+     */
+    public synchronized boolean tryAcquire() {
+        return reserve() <= 0;
+    }
+
+    /**
+     * Stops giving permits for the duration, for example when the platform has answered with {@code Retry-After}
+     * @param duration Time to wait before the next request
+     */
+    public synchronized void pause(final Duration duration) {
+        final long until = System.nanoTime() + duration.toNanos();
+        if (until - paused > 0) paused = until;
+    }
+
+    /**
+     * @return Takes a permit and returns 0 or returns the time in nanoseconds to wait for the next permit
+     */
+    private long reserve() {
+        final long now = System.nanoTime();
+        if (paused - now > 0) return paused - now;
+        refill();
+        if (tokens >= 1) {
+            tokens--;
+            return 0;
+        }
+        return Math.max(1, (long) Math.ceil((1 - tokens) / refill));
+    }
+
+    private void refill() {
+        final long now = System.nanoTime();
+        tokens = Math.min(permits, tokens + (now - last) * refill);
+        last = now;
+    }
+}
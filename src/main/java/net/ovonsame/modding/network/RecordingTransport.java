@@ -0,0 +1,79 @@
+package net.ovonsame.modding.network;
+
+import java.io.*;
+import java.net.HttpURLConnection;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+
+/**
+ * Class {@code RecordingTransport} is a decorator which writes every response of the delegate into a directory, so they can be served later by {@link ReplayTransport}.
+ * Every response is stored in its own file with the status and headers first and the body as it was received after an empty line.
+ * Request headers including API keys are never written.
+ * {@code 304 Not Modified} responses to conditional requests of a {@link net.ovonsame.modding.cache.ResponseCache} are passed through without being written,
+ * so they do not replace the recorded full response, which a client with an empty cache needs on replay.
+ */
+public class RecordingTransport implements Transport {
+    private final Transport delegate;
+    private final Path directory;
+
+    /**
+     * @param delegate Transport which sends requests
+     * @param directory Directory to write responses in. It is created if it does not exist
+     */
+    public RecordingTransport(final Transport delegate, final Path directory) {
+        this.delegate = delegate;
+        this.directory = directory;
+    }
+
+    @Override
+    public Response send(final Request request) throws IOException {
+        final byte[] body;
+        final Response response = delegate.send(request);
+        if (response.status() == HttpURLConnection.HTTP_NOT_MODIFIED) return response;
+        try (response) {
+            body = response.body().readAllBytes();
+        }
+
+        final Path file = file(directory, request);
+        Files.createDirectories(file.getParent());
+        final Path temp = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+        try {
+            try (final OutputStream out = new BufferedOutputStream(Files.newOutputStream(temp))) {
+                final StringBuilder head = new StringBuilder();
+                head.append(request.method()).append(' ').append(request.endpoint()).append('\n');
+                head.append(response.status()).append('\n');
+                response.headers().forEach((name, values) -> values.forEach(v -> head.append(name).append(": ").append(v).append('\n')));
+                head.append('\n');
+                out.write(head.toString().getBytes(StandardCharsets.UTF_8));
+                out.write(body);
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+        return new Response(response.status(), response.headers(), new ByteArrayInputStream(body));
+    }
+
+    /**
+     * @param directory Directory of recordings
+     * @param request Recorded request
+     * @return File of the response to the request. Its name is readable and ends with the hash of the method, endpoint and body
+     */
+    static Path file(final Path directory, final Request request) {
+        try {
+            final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update((request.method() + ' ' + request.endpoint()).getBytes(StandardCharsets.UTF_8));
+            if (request.body() != null) digest.update(request.body());
+            final String hash = HexFormat.of().formatHex(digest.digest(), 0, 8);
+
+            String name = request.endpoint().replaceAll("[^A-Za-z0-9.-]+", "_").replaceAll("^_|_$", "");
+            if (name.length() > 80) name = name.substring(0, 80);
+            return directory.resolve(request.platform().name().toLowerCase()).resolve(name + '-' + hash + ".http");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
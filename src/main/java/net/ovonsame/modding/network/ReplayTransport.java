@@ -0,0 +1,62 @@
+package net.ovonsame.modding.network;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.*;
+
+/**
+ * Class {@code ReplayTransport} serves responses written by {@link RecordingTransport} without any network, so integrations can be benchmarked and tested deterministically
+ */
+public class ReplayTransport implements Transport {
+    private final Path directory;
+
+    /**
+     * @param directory Directory with recorded responses
+     */
+    public ReplayTransport(final Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * @throws IOException If there is no recorded response to the request
+     */
+    @Override
+    public Response send(final Request request) throws IOException {
+        final byte[] bytes;
+        try {
+            bytes = Files.readAllBytes(RecordingTransport.file(directory, request));
+        } catch (NoSuchFileException e) {
+            throw new IOException("No recorded response to " + request.method() + ' ' + request.platform() + request.endpoint(), e);
+        }
+
+        int position = 0;
+        final List<String> lines = new ArrayList<>();
+        while (true) {
+            int end = position;
+            while (end < bytes.length && bytes[end] != '\n') end++;
+            if (end == bytes.length) throw new IOException("Malformed recording of " + request.endpoint());
+            final String line = new String(bytes, position, end - position, StandardCharsets.UTF_8);
+            position = end + 1;
+            if (line.isEmpty()) break;
+            lines.add(line);
+        }
+        if (lines.size() < 2) throw new IOException("Malformed recording of " + request.endpoint());
+
+        final int status;
+        try {
+            status = Integer.parseInt(lines.get(1).trim());
+        } catch (NumberFormatException e) {
+            throw new IOException("Malformed recording of " + request.endpoint(), e);
+        }
+        final Map<String, List<String>> headers = new HashMap<>();
+        for (String line : lines.subList(2, lines.size())) {
+            final int colon = line.indexOf(':');
+            if (colon <= 0) continue;
+            headers.computeIfAbsent(line.substring(0, colon), k -> new ArrayList<>()).add(line.substring(colon + 1).trim());
+        }
+        return new Response(status, headers, new ByteArrayInputStream(bytes, position, bytes.length - position));
+    }
+}
@@ -0,0 +1,30 @@
+package net.ovonsame.modding.network;
+
+import net.ovonsame.modding.enumeration.Platform;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+
+/**
+ * Record class {@code Request} is a request to a platform which is sent by a {@link Transport}
+ * @param platform Platform to send the request to
+ * @param method HTTP method
+ * @param endpoint Endpoint relative to the base URL of the platform
+ * @param headers Headers of the request
+ * @param body Body of the request or null if it has no body
+ */
+public record Request(Platform platform, String method, String endpoint, Map<String, String> headers, byte @Nullable [] body) {
+    public Request {
+        headers = Map.copyOf(headers);
+    }
+
+    /**
+     * @param platform Platform to send the request to
+     * @param endpoint Endpoint relative to the base URL of the platform
+     * @param headers Headers of the request
+     * @return {@code GET} request without body
+     */
+    public static Request get(final Platform platform, final String endpoint, final Map<String, String> headers) {
+        return new Request(platform, "GET", endpoint, headers, null);
+    }
+}
@@ -0,0 +1,75 @@
+package net.ovonsame.modding.network;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.*;
+
+/**
+ * Record class {@code Response} is a raw response of a platform. Header names are case-insensitive
+ * @param status HTTP status code
+ * @param headers Headers of the response
+ * @param body Body of the response as it was received, possibly compressed
+ */
+public record Response(int status, Map<String, List<String>> headers, InputStream body) implements Closeable {
+    public Response {
+        final TreeMap<String, List<String>> map = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        headers.forEach((name, values) -> {
+            if (name != null) map.put(name, List.copyOf(values));
+        });
+        headers = Collections.unmodifiableMap(map);
+    }
+
+    /**
+     * @param name Name of the header
+     * @return The first value of the header
+     */
+    public Optional<String> header(final String name) {
+        final List<String> values = headers.get(name);
+        return values == null || values.isEmpty() ? Optional.empty() : Optional.of(values.getFirst());
+    }
+
+    /**
+     * @return Value of {@code Retry-After} header given in seconds or as a date, or null if there is none
+     */
+    public @Nullable Duration getRetryAfter() {
+        final Optional<String> header = header("Retry-After");
+        if (header.isEmpty()) return null;
+        final String value = header.get().trim();
+        try {
+            return Duration.ofSeconds(Math.max(0, Long.parseLong(value)));
+        } catch (NumberFormatException ignored) {}
+        try {
+            final Duration d = Duration.between(ZonedDateTime.now(), ZonedDateTime.parse(value, DateTimeFormatter.RFC_1123_DATE_TIME));
+            return d.isNegative() ? Duration.ZERO : d;
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    /**
+     * @return Time until the quota is reset if the platform says that no requests are remaining, otherwise null
+     */
+    public @Nullable Duration getRateLimitReset() {
+        final Optional<String> remaining = header("X-Ratelimit-Remaining");
+        final Optional<String> reset = header("X-Ratelimit-Reset");
+        if (remaining.isEmpty() || reset.isEmpty()) return null;
+        try {
+            if (Long.parseLong(remaining.get().trim()) > 0) return null;
+            return Duration.ofSeconds(Math.max(0, Long.parseLong(reset.get().trim())));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        body.close();
+    }
+}
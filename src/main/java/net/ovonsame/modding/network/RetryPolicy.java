@@ -0,0 +1,39 @@
+package net.ovonsame.modding.network;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Record class {@code RetryPolicy} defines how requests are retried when the platform answers with {@code 429} or {@code 5xx}.
+ * Delays grow exponentially and are jittered, so clients which failed together do not retry together.
+ * @param attempts Maximum number of attempts including the first one
+ * @param delay Delay before the second attempt
+ * @param maxDelay Maximum delay between attempts. If the platform asks to wait longer, the request fails
+ */
+public record RetryPolicy(int attempts, Duration delay, Duration maxDelay) {
+    /**
+     * Policy which never retries
+     */
+    public static final RetryPolicy NONE = new RetryPolicy(1, Duration.ZERO, Duration.ZERO);
+
+    /**
+     * Policy with 4 attempts starting at half a second and waiting not longer than a minute
+     */
+    public static final RetryPolicy DEFAULT = new RetryPolicy(4, Duration.ofMillis(500), Duration.ofMinutes(1));
+
+    public RetryPolicy {
+        if (attempts < 1) throw new IllegalArgumentException("There must be at least one attempt");
+        if (delay.isNegative() || maxDelay.isNegative()) throw new IllegalArgumentException("Delays can not be negative");
+    }
+
+    /**
+     * @param attempt Number of the failed attempt starting from 1
+     * @return Delay before the next attempt, between a half and the whole of the exponential delay
+     */
+    public Duration getDelay(final int attempt) {
+        final long base = delay.toMillis() << Math.min(attempt - 1, 20);
+        final long exponential = Math.min(maxDelay.toMillis(), base < 0 ? Long.MAX_VALUE : base);
+        final long half = exponential / 2;
+        return Duration.ofMillis(half + ThreadLocalRandom.current().nextLong(exponential - half + 1));
+    }
+}
@@ -0,0 +1,47 @@
+package net.ovonsame.modding.network;
+
+import net.ovonsame.modding.enumeration.Platform;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Class {@code SingleFlight} coalesces concurrent identical calls.
+ * While a call with some key is in flight, other callers with the same key wait for it and receive the same result or the same failure instead of making their own call.
+ * @param <K> Type of the keys
+ * @param <V> Type of the results
+ */
+public final class SingleFlight<K, V> {
+    private final ConcurrentHashMap<K, CompletableFuture<V>> calls = new ConcurrentHashMap<>();
+
+    /**
+     * @param key Key of the call
+     * @param call Call which is made only if no call with the same key is in flight
+     * @return Result of this call or of the call in flight
+     * @throws IOException If the call has failed
+     */
+    public V execute(final K key, final Platform.Call<V> call) throws IOException {
+        final CompletableFuture<V> future = new CompletableFuture<>();
+        final CompletableFuture<V> existing = calls.putIfAbsent(key, future);
+        if (existing != null) return Platform.join(existing);
+
+        try {
+            final V result = call.call();
+            future.complete(result);
+            return result;
+        } catch (IOException | RuntimeException | Error e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            calls.remove(key, future);
+        }
+    }
+
+    /**
+     * @return Number of calls in flight
+     */
+    public int size() {
+        return calls.size();
+    }
+}
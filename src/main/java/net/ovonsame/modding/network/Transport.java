@@ -0,0 +1,23 @@
+package net.ovonsame.modding.network;
+
+import net.ovonsame.modding.enumeration.Platform;
+
+import java.io.IOException;
+
+/**
+ * Interface {@code Transport} sends requests of platforms and returns their raw responses.
+ * Platforms delegate every request to the transport set with {@link Platform#setTransport(Transport)}, so it can be replaced with a local stub or with recorded responses.
+ * Responses are returned as they are, statuses are checked and bodies are decompressed and decoded by the platform.
+ * @see HttpTransport
+ * @see RecordingTransport
+ * @see ReplayTransport
+ */
+@FunctionalInterface
+public interface Transport {
+    /**
+     * @param request Request to send
+     * @return Response with any status. The caller closes it
+     * @throws IOException If the response can not be received
+     */
+    Response send(Request request) throws IOException;
+}